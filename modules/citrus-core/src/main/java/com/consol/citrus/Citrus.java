@@ -403,6 +403,19 @@ public final class Citrus {
         action.execute(testContext);
     }
 
+    /**
+     * Runs independent test cases in parallel using given number of worker threads. Each test case receives
+     * its own test context.
+     * @param testCases
+     * @param workers
+     * @return
+     */
+    public TestResults run(List<TestCase> testCases, int workers) {
+        ParallelTestExecutor executor = new ParallelTestExecutor(testContextFactory);
+        executor.setWorkers(workers);
+        return executor.execute(testCases);
+    }
+
     /**
      * Creates a new test context.
      * @return the new citrus test context.
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.report.TestResults;
+import com.consol.citrus.variable.GlobalVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes independent test cases concurrently on a fixed pool of worker threads. Each test case receives its own
+ * test context with separate variables and message store. Global variables are snapshot once before execution and
+ * each test case receives its own copy of that snapshot, so all test cases see the same global state even when single
+ * tests modify global variables.
+ *
+ * Note that endpoints are still shared between test cases. Tests receiving messages on the same endpoint should use
+ * message selectors on a correlating header in order to not consume messages of other tests.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ParallelTestExecutor {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(ParallelTestExecutor.class);
+
+    /** Factory creating test context instances */
+    private final TestContextFactory testContextFactory;
+
+    /** Number of worker threads */
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Constructor using test context factory.
+     * @param testContextFactory
+     */
+    public ParallelTestExecutor(TestContextFactory testContextFactory) {
+        this.testContextFactory = testContextFactory;
+    }
+
+    /**
+     * Executes given test cases in parallel and waits for all of them to finish.
+     * @param testCases
+     * @return results of all executed test cases in order of given test cases
+     */
+    public TestResults execute(List<TestCase> testCases) {
+        TestResults results = new TestResults();
+        if (testCases.isEmpty()) {
+            return results;
+        }
+
+        Map<String, Object> globalVariables = new LinkedHashMap<>(testContextFactory.getGlobalVariables().getVariables());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, testCases.size())), new WorkerThreadFactory());
+        try {
+            List<Future<TestResult>> futures = new ArrayList<>(testCases.size());
+            for (TestCase testCase : testCases) {
+                futures.add(executor.submit(() -> executeTest(testCase, createTestContext(globalVariables))));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                results.addResult(getResult(testCases.get(i), futures.get(i)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    /**
+     * Executes single test case with given test context.
+     * @param testCase
+     * @param context
+     * @return
+     */
+    private TestResult executeTest(TestCase testCase, TestContext context) {
+        try {
+            testCase.execute(context);
+        } catch (Exception | AssertionError e) {
+            log.debug(String.format("Test case '%s' failed in parallel execution", testCase.getName()), e);
+
+            if (testCase.getTestResult() == null) {
+                return TestResult.failed(testCase.getName(), testCase.getTestClass().getName(), e);
+            }
+        }
+
+        return testCase.getTestResult();
+    }
+
+    /**
+     * Waits for test execution future and gets the test result.
+     * @param testCase
+     * @param future
+     * @return
+     */
+    private TestResult getResult(TestCase testCase, Future<TestResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for parallel test execution", e);
+        } catch (ExecutionException e) {
+            return TestResult.failed(testCase.getName(), testCase.getTestClass().getName(), e.getCause());
+        }
+    }
+
+    /**
+     * Creates new isolated test context with its own copy of the given global variables snapshot.
+     * @param globalVariables
+     * @return
+     */
+    private TestContext createTestContext(Map<String, Object> globalVariables) {
+        GlobalVariables testGlobalVariables = new GlobalVariables();
+        testGlobalVariables.setVariables(new LinkedHashMap<>(globalVariables));
+
+        TestContext context = testContextFactory.getObject();
+        context.setGlobalVariables(testGlobalVariables);
+        return context;
+    }
+
+    /**
+     * Gets the number of worker threads.
+     * @return
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Sets the number of worker threads.
+     * @param workers
+     */
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Thread factory creating named daemon worker threads.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "citrus-test-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -250,10 +250,10 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
         CitrusRuntimeException runtimeException = null;
         if (CollectionUtils.isEmpty(context.getExceptions()) &&
                 Optional.ofNullable(testResult).map(TestResult::isSuccess).orElse(false)) {
+            ScheduledExecutorService scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
             try {
                 CompletableFuture<Boolean> finished = new CompletableFuture<>();
-                Executors.newSingleThreadScheduledExecutor()
-                        .scheduleAtFixedRate(() -> {
+                scheduledExecutor.scheduleAtFixedRate(() -> {
                             if (isDone(context)) {
                                 finished.complete(true);
                             } else {
@@ -265,6 +265,8 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
             } catch (InterruptedException | ExecutionException | TimeoutException e) {
                 runtimeException = new CitrusRuntimeException("Failed to wait for nested test actions to finish properly", e);
             } finally {
+                scheduledExecutor.shutdownNow();
+
                 if (!CollectionUtils.isEmpty(context.getExceptions())) {
                     CitrusRuntimeException ex = context.getExceptions().remove(0);
                     testResult = TestResult.failed(getName(), testClass.getName(), ex);
@@ -309,6 +311,8 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
             }
 
             afterTest(context);
+
+            context.getMessageStore().finish();
         }
     }
 
@@ -506,6 +510,14 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
         this.testResult = testResult;
     }
 
+    /**
+     * Gets the test result.
+     * @return
+     */
+    public TestResult getTestResult() {
+        return testResult;
+    }
+
     /**
      * Gets the groups.
      *
@@ -17,11 +17,11 @@
 package com.consol.citrus.actions;
 
 import com.consol.citrus.Completable;
+import com.consol.citrus.container.ActionExecutionService;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import java.util.Optional;
 import java.util.concurrent.*;
@@ -44,8 +44,7 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
     @Override
     public final void doExecute(TestContext context) {
         CompletableFuture<Void> result = new CompletableFuture<>();
-        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
-        finished = executor.submit(() -> {
+        finished = ActionExecutionService.lookup(context).submit(() -> {
             try {
                 doExecuteAsync(context);
                 result.complete(null);
@@ -18,6 +18,7 @@ package com.consol.citrus.actions;
 
 import com.consol.citrus.Completable;
 import com.consol.citrus.Citrus;
+import com.consol.citrus.container.ActionExecutionService;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -29,7 +30,6 @@ import com.consol.citrus.variable.VariableExtractor;
 import com.consol.citrus.variable.dictionary.DataDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
@@ -106,8 +106,7 @@ public class SendMessageAction extends AbstractTestAction implements Completable
         if (forkMode) {
             log.debug("Forking message sending action ...");
 
-            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(() -> {
+            ActionExecutionService.lookup(context).execute(() -> {
                 try {
                     messageEndpoint.createProducer().send(message, context);
                 } catch (Exception e) {
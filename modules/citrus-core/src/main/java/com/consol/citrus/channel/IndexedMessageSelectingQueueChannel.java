@@ -0,0 +1,212 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.channel;
+
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.messaging.Message;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Message selecting queue channel that maintains hash indexes on configured header names. Selective receive operations
+ * that match one of the indexed headers with an exact value resolve candidate messages from the index instead of
+ * scanning the whole queue. All other selectors such as payload, XPath or JSONPath selectors fall back to scanning
+ * the queue.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class IndexedMessageSelectingQueueChannel extends MessageSelectingQueueChannel {
+
+    /** Header names to index */
+    private List<String> indexedHeaders = new ArrayList<>();
+
+    /** Header indexes holding queued messages per header name and header value in order of arrival */
+    private final Map<String, Map<String, Deque<Message<?>>>> indexes = new HashMap<>();
+
+    /**
+     * Create a channel with the specified queue.
+     */
+    public IndexedMessageSelectingQueueChannel(BlockingQueue<Message<?>> queue) {
+        super(queue);
+    }
+
+    /**
+     * Create a channel with the specified queue capacity.
+     */
+    public IndexedMessageSelectingQueueChannel(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Default constructor.
+     */
+    public IndexedMessageSelectingQueueChannel() {
+        this(new LinkedBlockingQueue<Message<?>>());
+    }
+
+    @Override
+    public Message<?> receive(MessageSelector selector) {
+        if (selector instanceof DispatchingMessageSelector) {
+            Map<String, String> matchingHeaderValues = ((DispatchingMessageSelector) selector).getMatchingHeaderValues();
+            for (String headerName : indexedHeaders) {
+                if (matchingHeaderValues.containsKey(headerName)) {
+                    return receiveIndexed(selector, headerName, matchingHeaderValues.get(headerName));
+                }
+            }
+        }
+
+        Message<?> message = super.receive(selector);
+        if (message != null) {
+            removeFromIndex(message);
+        }
+
+        return message;
+    }
+
+    /**
+     * Receives first message that is accepted by given selector using the header index as candidate source.
+     * @param selector
+     * @param headerName
+     * @param headerValue
+     * @return
+     */
+    private Message<?> receiveIndexed(MessageSelector selector, String headerName, String headerValue) {
+        List<Message<?>> candidates;
+        synchronized (indexes) {
+            Deque<Message<?>> indexed = indexes.get(headerName).get(headerValue);
+            if (indexed == null) {
+                return null;
+            }
+
+            candidates = new ArrayList<>(indexed);
+        }
+
+        for (Message<?> candidate : candidates) {
+            if (selector.accept(candidate) && getQueue().remove(candidate)) {
+                removeFromIndex(candidate);
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        addToIndex(message);
+
+        boolean sent = false;
+        try {
+            sent = super.doSend(message, timeout);
+        } finally {
+            if (!sent) {
+                removeFromIndex(message);
+            }
+        }
+
+        return sent;
+    }
+
+    @Override
+    protected Message<?> doReceive(long timeout) {
+        Message<?> message = super.doReceive(timeout);
+        if (message != null) {
+            removeFromIndex(message);
+        }
+
+        return message;
+    }
+
+    @Override
+    public List<Message<?>> clear() {
+        List<Message<?>> messages = super.clear();
+        messages.forEach(this::removeFromIndex);
+        return messages;
+    }
+
+    @Override
+    public List<Message<?>> purge(MessageSelector selector) {
+        List<Message<?>> messages = super.purge(selector);
+        messages.forEach(this::removeFromIndex);
+        return messages;
+    }
+
+    /**
+     * Adds message to all header indexes.
+     * @param message
+     */
+    private void addToIndex(Message<?> message) {
+        synchronized (indexes) {
+            for (String headerName : indexedHeaders) {
+                Object headerValue = HeaderMatchingMessageSelector.getHeaderValue(message, headerName);
+                if (headerValue != null) {
+                    indexes.get(headerName)
+                            .computeIfAbsent(headerValue.toString(), key -> new ArrayDeque<>())
+                            .add(message);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes message from all header indexes.
+     * @param message
+     */
+    private void removeFromIndex(Message<?> message) {
+        synchronized (indexes) {
+            for (String headerName : indexedHeaders) {
+                Object headerValue = HeaderMatchingMessageSelector.getHeaderValue(message, headerName);
+                if (headerValue != null) {
+                    Map<String, Deque<Message<?>>> index = indexes.get(headerName);
+                    Deque<Message<?>> indexed = index.get(headerValue.toString());
+                    if (indexed != null) {
+                        indexed.removeIf(candidate -> candidate == message);
+                        if (indexed.isEmpty()) {
+                            index.remove(headerValue.toString());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the indexed header names.
+     * @return
+     */
+    public List<String> getIndexedHeaders() {
+        return indexedHeaders;
+    }
+
+    /**
+     * Sets the indexed header names. Messages already queued are indexed, too.
+     * @param indexedHeaders
+     */
+    public void setIndexedHeaders(List<String> indexedHeaders) {
+        synchronized (indexes) {
+            this.indexedHeaders = new ArrayList<>(indexedHeaders);
+            indexes.clear();
+            this.indexedHeaders.forEach(headerName -> indexes.put(headerName, new HashMap<>()));
+            getQueue().forEach(this::addToIndex);
+        }
+    }
+}
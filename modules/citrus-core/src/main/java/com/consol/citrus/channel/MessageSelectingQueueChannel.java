@@ -22,11 +22,17 @@ import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.util.Assert;
 
+import java.util.Iterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Added selective consumption of messages according to a message selector implementation.
+ * Added selective consumption of messages according to a message selector implementation. Selective receivers
+ * waiting for a matching message are woken up as soon as a new message is sent to this channel. Polling interval is
+ * only used as upper bound for the time to wait until the queue is scanned again.
  * 
  * @author Christoph Deppisch
  */
@@ -40,6 +46,13 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
 
+    /** Lock and condition used to signal message arrival to waiting selective receivers */
+    private final ReentrantLock arrivalLock = new ReentrantLock();
+    private final Condition messageArrived = arrivalLock.newCondition();
+
+    /** Counts messages sent to this channel so waiting receivers can detect arrivals that happened during queue scan */
+    private long arrivals = 0L;
+
     /**
      * Create a channel with the specified queue.
      */
@@ -75,9 +88,9 @@ public class MessageSelectingQueueChannel extends QueueChannel {
      * @return
      */
     public Message<?> receive(MessageSelector selector) {
-        Object[] array = this.queue.toArray();
-        for (Object o : array) {
-            Message<?> message = (Message<?>) o;
+        Iterator<Message<?>> messages = this.queue.iterator();
+        while (messages.hasNext()) {
+            Message<?> message = messages.next();
             if (selector.accept(message) && this.queue.remove(message)) {
                 return message;
             }
@@ -88,35 +101,94 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     
     /**
      * Consume messages on the channel via message selector. Timeout forces several retries
-     * with polling interval setting.
+     * with polling interval setting. Retry is performed immediately when new messages arrive on this channel.
      * 
      * @param selector
      * @param timeout
      * @return
      */
     public Message<?> receive(MessageSelector selector, long timeout) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
         long timeLeft = timeout;
+        long lastArrival = getArrivals();
         Message<?> message = receive(selector);
 
         while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
-            
+            long waitTime = Math.min(pollingInterval, timeLeft);
+
             if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
-            }
-            
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                RETRY_LOG.debug("No message received with message selector - retrying in " + waitTime + "ms");
             }
-            
+
+            awaitArrival(lastArrival, waitTime);
+
+            lastArrival = getArrivals();
             message = receive(selector);
+            timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
         }
         
         return message;
     }
 
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        boolean sent = super.doSend(message, timeout);
+
+        if (sent) {
+            arrivalLock.lock();
+            try {
+                arrivals++;
+                messageArrived.signalAll();
+            } finally {
+                arrivalLock.unlock();
+            }
+        }
+
+        return sent;
+    }
+
+    /**
+     * Waits for new message arrival on this channel. Returns early when a message has been sent
+     * since the given arrival count.
+     * @param lastArrival
+     * @param waitTime
+     */
+    private void awaitArrival(long lastArrival, long waitTime) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(waitTime);
+
+        arrivalLock.lock();
+        try {
+            while (arrivals == lastArrival && nanosLeft > 0) {
+                nanosLeft = messageArrived.awaitNanos(nanosLeft);
+            }
+        } catch (InterruptedException e) {
+            RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+        } finally {
+            arrivalLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages sent to this channel so far.
+     * @return
+     */
+    private long getArrivals() {
+        arrivalLock.lock();
+        try {
+            return arrivals;
+        } finally {
+            arrivalLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the underlying message queue.
+     * @return
+     */
+    protected BlockingQueue<Message<?>> getQueue() {
+        return queue;
+    }
+
     /**
      * Gets the pollingInterval.
      * @return the pollingInterval the pollingInterval to get.
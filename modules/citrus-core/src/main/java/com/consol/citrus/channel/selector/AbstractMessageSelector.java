@@ -47,6 +47,22 @@ public abstract class AbstractMessageSelector implements MessageSelector {
         this.context = context;
     }
 
+    /**
+     * Gets the select key.
+     * @return
+     */
+    public String getSelectKey() {
+        return selectKey;
+    }
+
+    /**
+     * Gets the matching value.
+     * @return
+     */
+    public String getMatchingValue() {
+        return matchingValue;
+    }
+
     /**
      * Reads message payload as String either from message object directly or from nested Citrus message representation.
      * @param message
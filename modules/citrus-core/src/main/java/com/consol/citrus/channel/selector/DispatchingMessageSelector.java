@@ -18,6 +18,7 @@ package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.MessageSelectorBuilder;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.context.ApplicationContext;
@@ -51,6 +52,12 @@ public class DispatchingMessageSelector implements MessageSelector {
     /** Test context */
     private final TestContext context;
 
+    /** Delegate selectors created from selector entries */
+    private List<MessageSelector> selectors;
+
+    /** Exact header value matches of this selector */
+    private Map<String, String> matchingHeaderValues;
+
     /**
      * Default constructor using a selector string.
      */
@@ -79,26 +86,62 @@ public class DispatchingMessageSelector implements MessageSelector {
     
     @Override
     public boolean accept(Message<?> message) {
-        return matchingHeaders.entrySet()
-                              .stream()
-                              .allMatch(entry -> factories.stream()
-                                                     .filter(factory -> factory.supports(entry.getKey()))
-                                                     .findAny()
-                                                     .orElse(new HeaderMatchingMessageSelector.Factory())
-                                                     .create(entry.getKey(), entry.getValue(), context)
-                                                     .accept(message));
+        return getSelectors().stream().allMatch(selector -> selector.accept(message));
+    }
+
+    /**
+     * Gets header names and values that messages must exactly match in order to be accepted by this selector.
+     * Header expressions using validation matchers are not included.
+     * @return
+     */
+    public Map<String, String> getMatchingHeaderValues() {
+        getSelectors();
+        return matchingHeaderValues;
+    }
+
+    /**
+     * Gets delegate message selectors for all selector entries. Delegates are created once and reused for
+     * all messages this selector is evaluating.
+     * @return
+     */
+    private synchronized List<MessageSelector> getSelectors() {
+        if (selectors == null) {
+            List<MessageSelector> delegates = new ArrayList<>(matchingHeaders.size());
+            Map<String, String> headerValues = new LinkedHashMap<>();
+
+            for (Map.Entry<String, String> entry : matchingHeaders.entrySet()) {
+                MessageSelectorFactory<?> factory = factories.stream()
+                        .filter(candidate -> candidate.supports(entry.getKey()))
+                        .findAny()
+                        .orElse(new HeaderMatchingMessageSelector.Factory());
+
+                MessageSelector selector = factory.create(entry.getKey(), entry.getValue(), context);
+                if (selector instanceof HeaderMatchingMessageSelector &&
+                        !ValidationMatcherUtils.isValidationMatcherExpression(entry.getValue())) {
+                    headerValues.put(((HeaderMatchingMessageSelector) selector).getSelectKey(), entry.getValue());
+                }
+
+                delegates.add(selector);
+            }
+
+            matchingHeaderValues = Collections.unmodifiableMap(headerValues);
+            selectors = delegates;
+        }
+
+        return selectors;
     }
 
     /**
      * Add message selector factory to list of delegates.
      * @param factory
      */
-    public void addMessageSelectorFactory(MessageSelectorFactory<?> factory) {
+    public synchronized void addMessageSelectorFactory(MessageSelectorFactory<?> factory) {
         if (factory instanceof BeanFactoryAware) {
             ((BeanFactoryAware) factory).setBeanFactory(beanFactory);
         }
 
         this.factories.add(factory);
+        this.selectors = null;
     }
 
 }
@@ -17,7 +17,6 @@ package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.context.TestContext;
 import org.springframework.messaging.Message;
-import org.springframework.messaging.MessageHeaders;
 
 import java.util.*;
 
@@ -42,27 +41,28 @@ public class HeaderMatchingMessageSelector extends AbstractMessageSelector {
     
     @Override
     public boolean accept(Message<?> message) {
-        MessageHeaders messageHeaders = message.getHeaders();
+        return Optional.ofNullable(getHeaderValue(message, selectKey))
+                .map(Object::toString)
+                .map(this::evaluate)
+                .orElse(false);
+    }
 
-        Map<String, Object> nestedMessageHeaders = new HashMap<>();
+    /**
+     * Gets header value from message. Headers of nested Citrus message representation take precedence over
+     * message headers.
+     * @param message
+     * @param headerName
+     * @return header value or null if not present
+     */
+    public static Object getHeaderValue(Message<?> message, String headerName) {
         if (message.getPayload() instanceof com.consol.citrus.message.Message) {
-            nestedMessageHeaders = ((com.consol.citrus.message.Message) message.getPayload()).getHeaders();
-        }
-
-        if (nestedMessageHeaders.containsKey(selectKey)) {
-            return matchHeader(nestedMessageHeaders);
-        } else if (messageHeaders.containsKey(selectKey)) {
-            return matchHeader(messageHeaders);
-        } else {
-            return false;
+            Map<String, Object> nestedMessageHeaders = ((com.consol.citrus.message.Message) message.getPayload()).getHeaders();
+            if (nestedMessageHeaders.containsKey(headerName)) {
+                return nestedMessageHeaders.get(headerName);
+            }
         }
-    }
 
-    private boolean matchHeader(Map<String, Object> messageHeaders) {
-        return Optional.ofNullable(messageHeaders.get(selectKey))
-                .map(Object::toString)
-                .map(this::evaluate)
-                .orElse(false);
+        return message.getHeaders().get(headerName);
     }
 
     /**
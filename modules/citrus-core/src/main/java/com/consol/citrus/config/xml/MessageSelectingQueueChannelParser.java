@@ -20,11 +20,15 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.BeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
 
+import com.consol.citrus.channel.IndexedMessageSelectingQueueChannel;
 import com.consol.citrus.channel.MessageSelectingQueueChannel;
 import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 
+import java.util.Arrays;
+
 /**
  * Bean definition parser for special message channel configuration which
  * supports message selection.
@@ -37,7 +41,14 @@ public class MessageSelectingQueueChannelParser implements BeanDefinitionParser
      * @see org.springframework.beans.factory.xml.BeanDefinitionParser#parse(org.w3c.dom.Element, org.springframework.beans.factory.xml.ParserContext)
      */
     public BeanDefinition parse(Element element, ParserContext parserContext) {
-        BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(MessageSelectingQueueChannel.class);
+        BeanDefinitionBuilder builder;
+        if (StringUtils.hasText(element.getAttribute("indexed-headers"))) {
+            builder = BeanDefinitionBuilder.rootBeanDefinition(IndexedMessageSelectingQueueChannel.class);
+            builder.addPropertyValue("indexedHeaders", Arrays.asList(StringUtils.commaDelimitedListToStringArray(
+                    StringUtils.trimAllWhitespace(element.getAttribute("indexed-headers")))));
+        } else {
+            builder = BeanDefinitionBuilder.rootBeanDefinition(MessageSelectingQueueChannel.class);
+        }
 
         BeanDefinitionParserUtils.setConstructorArgValue(builder, element.getAttribute("capacity"));
 
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.config.xml;
 
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.BeanDefinitionParser;
@@ -39,7 +40,8 @@ public class ParallelParser implements BeanDefinitionParser {
 
         DescriptionElementParser.doParse(element, builder);
         builder.addPropertyValue("name", element.getLocalName());
-        
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-concurrency"), "maxConcurrency");
+
         ActionContainerParser.doParse(element, parserContext, builder);
 
         return builder.getBeanDefinition();
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.container;
+
+import com.consol.citrus.context.TestContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared execution service for test actions and containers that run work in separate threads, such as
+ * parallel containers, async test actions and forked timers. Worker threads are pooled and reused instead of
+ * creating a new thread per task. By default the pool grows on demand and releases idle threads after a keep alive
+ * time. Optional maximum pool size bounds the number of threads - tasks exceeding this limit are queued.
+ *
+ * Service keeps track of pending and active tasks as well as task latency for monitoring purpose.
+ *
+ * Maximum pool size of the default instance is set with system property or environment variable. Test actions look up
+ * the service in the Spring application context first and use the default instance as fallback.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ActionExecutionService {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(ActionExecutionService.class);
+
+    /** Maximum pool size of default instance */
+    public static final String MAX_POOL_SIZE_PROPERTY = "citrus.action.execution.max.pool.size";
+    public static final String MAX_POOL_SIZE_ENV = "CITRUS_ACTION_EXECUTION_MAX_POOL_SIZE";
+    public static final String MAX_POOL_SIZE = System.getProperty(MAX_POOL_SIZE_PROPERTY, System.getenv(MAX_POOL_SIZE_ENV) != null ?
+            System.getenv(MAX_POOL_SIZE_ENV) : "0");
+
+    /** Default shared instance */
+    private static final ActionExecutionService DEFAULT_INSTANCE = new ActionExecutionService(Integer.parseInt(MAX_POOL_SIZE));
+
+    /** Keep alive time for idle worker threads in milliseconds */
+    private static final long KEEP_ALIVE_TIME = 60000L;
+
+    /** Delegate thread pool */
+    private final ThreadPoolExecutor executor;
+
+    /** Task metrics */
+    private final AtomicLong submittedTasks = new AtomicLong();
+    private final AtomicLong startedTasks = new AtomicLong();
+    private final AtomicLong completedTasks = new AtomicLong();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     * Default constructor using unbounded thread pool that grows on demand.
+     */
+    public ActionExecutionService() {
+        this(0);
+    }
+
+    /**
+     * Constructor using maximum number of worker threads. Zero or negative values create a pool that grows on demand.
+     * Note that bounded pools may block nested parallel containers that wait for tasks queued behind them.
+     * @param maxPoolSize
+     */
+    public ActionExecutionService(int maxPoolSize) {
+        if (maxPoolSize > 0) {
+            executor = new ThreadPoolExecutor(maxPoolSize, maxPoolSize, KEEP_ALIVE_TIME, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), new WorkerThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+        } else {
+            executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_TIME, TimeUnit.MILLISECONDS,
+                    new SynchronousQueue<>(), new WorkerThreadFactory());
+        }
+    }
+
+    /**
+     * Gets the default shared service instance.
+     * @return
+     */
+    public static ActionExecutionService getDefault() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Gets the execution service for given test context. Uses service bean in application context if present
+     * otherwise default shared instance.
+     * @param context
+     * @return
+     */
+    public static ActionExecutionService lookup(TestContext context) {
+        ApplicationContext applicationContext = context.getApplicationContext();
+        if (applicationContext != null) {
+            String[] beanNames = applicationContext.getBeanNamesForType(ActionExecutionService.class, false, false);
+            if (beanNames.length > 0) {
+                return applicationContext.getBean(beanNames[0], ActionExecutionService.class);
+            }
+        }
+
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Submits task for execution in a pooled worker thread.
+     * @param task
+     * @return future that completes when the task has finished
+     */
+    public Future<?> submit(Runnable task) {
+        submittedTasks.incrementAndGet();
+
+        try {
+            return executor.submit(monitored(task, System.nanoTime()));
+        } catch (RejectedExecutionException e) {
+            submittedTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Executes task in a pooled worker thread without result. Uncaught errors of the task are logged.
+     * @param task
+     */
+    public void execute(Runnable task) {
+        submittedTasks.incrementAndGet();
+
+        try {
+            executor.execute(monitored(task, System.nanoTime()));
+        } catch (RejectedExecutionException e) {
+            submittedTasks.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Wraps task with metrics recording.
+     * @param task
+     * @param submitted
+     * @return
+     */
+    private Runnable monitored(Runnable task, long submitted) {
+        return () -> {
+            startedTasks.incrementAndGet();
+            activeTasks.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                activeTasks.decrementAndGet();
+                completedTasks.incrementAndGet();
+                recordLatency(System.nanoTime() - submitted);
+            }
+        };
+    }
+
+    /**
+     * Adds task latency to metrics.
+     * @param latency
+     */
+    private void recordLatency(long latency) {
+        totalLatency.addAndGet(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Shuts down this service. Running tasks are completed, new tasks are rejected.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Gets the number of tasks that have been submitted but not started yet.
+     * @return
+     */
+    public long getPendingTasks() {
+        return submittedTasks.get() - startedTasks.get();
+    }
+
+    /**
+     * Gets the number of tasks currently running.
+     * @return
+     */
+    public int getActiveTasks() {
+        return activeTasks.get();
+    }
+
+    /**
+     * Gets the number of completed tasks.
+     * @return
+     */
+    public long getCompletedTasks() {
+        return completedTasks.get();
+    }
+
+    /**
+     * Gets the current number of pooled worker threads.
+     * @return
+     */
+    public int getPoolSize() {
+        return executor.getPoolSize();
+    }
+
+    /**
+     * Gets the average time in milliseconds from task submission to task completion.
+     * @return
+     */
+    public long getAverageTaskLatency() {
+        long completed = completedTasks.get();
+        if (completed == 0) {
+            return 0L;
+        }
+
+        return TimeUnit.NANOSECONDS.toMillis(totalLatency.get() / completed);
+    }
+
+    /**
+     * Gets the maximum time in milliseconds from task submission to task completion.
+     * @return
+     */
+    public long getMaxTaskLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatency.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ActionExecutionService[pool=%s, pending=%s, active=%s, completed=%s, avgLatency=%sms]",
+                getPoolSize(), getPendingTasks(), getActiveTasks(), getCompletedTasks(), getAverageTaskLatency());
+    }
+
+    /**
+     * Thread factory creating named daemon worker threads.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private static final AtomicInteger poolNumber = new AtomicInteger();
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+        private final String namePrefix = "citrus-action-" + poolNumber.incrementAndGet() + "-";
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, e) -> log.error("Uncaught error in action execution thread " + t.getName(), e));
+            return thread;
+        }
+    }
+}
@@ -24,21 +24,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Test action will execute nested actions in parallel. Each action is executed in a
- * separate thread. Container joins all threads and waiting for them to end successfully.
+ * separate pooled thread provided by the action execution service. Container waits for all
+ * nested actions to end successfully. Optional max concurrency limits the number of nested actions
+ * running at the same time.
  * 
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private Stack<Thread> threads = new Stack<Thread>();
+    /** Maximum number of nested actions running at the same time, zero or negative for no limit */
+    private int maxConcurrency = 0;
+
+    /** Execution service providing worker threads, looked up in test context if not set */
+    private ActionExecutionService executionService;
 
-    /** Collect exceptions in list */
-    private List<CitrusRuntimeException> exceptions = new ArrayList<CitrusRuntimeException>();
-    
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(Parallel.class);
 
@@ -51,27 +54,56 @@ public class Parallel extends AbstractActionContainer {
 
     @Override
     public void doExecute(TestContext context) {
+        final List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<>());
+        final Semaphore permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        final List<Future<?>> tasks = new ArrayList<>(actions.size());
+        final ActionExecutionService executionService = this.executionService != null ? this.executionService : ActionExecutionService.lookup(context);
+
         for (final TestAction action : actions) {
-            Thread t = new Thread(new ActionRunner(action, context) {
-                @Override
-                public void exceptionCallback(CitrusRuntimeException e) {
-                    if (exceptions.isEmpty()) {
-                        setActiveAction(action);
+            if (permits != null) {
+                permits.acquireUninterruptibly();
+            }
+
+            try {
+                tasks.add(executionService.submit(new ActionRunner(action, context) {
+                    @Override
+                    public void exceptionCallback(CitrusRuntimeException e) {
+                        synchronized (exceptions) {
+                            if (exceptions.isEmpty()) {
+                                setActiveAction(action);
+                            }
+
+                            exceptions.add(e);
+                        }
                     }
-                    
-                    exceptions.add(e);
+
+                    @Override
+                    public void run() {
+                        try {
+                            super.run();
+                        } finally {
+                            if (permits != null) {
+                                permits.release();
+                            }
+                        }
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                if (permits != null) {
+                    permits.release();
                 }
-            });
 
-            threads.push(t);
-            t.start();
+                exceptions.add(new CitrusRuntimeException("Failed to execute parallel test action", e));
+            }
         }
 
-        while (!threads.isEmpty()) {
+        for (Future<?> task : tasks) {
             try {
-                threads.pop().join();
+                task.get();
             } catch (InterruptedException e) {
-                log.error("Unable to join thread", e);
+                log.error("Unable to join parallel test action", e);
+            } catch (ExecutionException e) {
+                exceptions.add(new CitrusRuntimeException("Parallel test action raised error", e.getCause()));
             }
         }
         
@@ -79,11 +111,45 @@ public class Parallel extends AbstractActionContainer {
             if (exceptions.size() == 1) {
                 throw exceptions.get(0);
             } else {
-                throw new ParallelContainerException(exceptions);
+                throw new ParallelContainerException(new ArrayList<>(exceptions));
             }
         }
     }
 
+    /**
+     * Gets the maximum number of nested actions running at the same time.
+     * @return
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of nested actions running at the same time.
+     * @param maxConcurrency
+     */
+    public Parallel setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Gets the execution service.
+     * @return
+     */
+    public ActionExecutionService getExecutionService() {
+        return executionService;
+    }
+
+    /**
+     * Sets the execution service.
+     * @param executionService
+     */
+    public Parallel setExecutionService(ActionExecutionService executionService) {
+        this.executionService = executionService;
+        return this;
+    }
+
     /**
      * Runnable wrapper for executing an action in separate Thread.
      */
@@ -19,6 +19,7 @@ package com.consol.citrus.context;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
 import com.consol.citrus.endpoint.EndpointFactory;
 import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.message.MessageStoreFactory;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.validation.MessageValidatorRegistry;
@@ -72,6 +73,9 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
     @Autowired(required=false)
     private NamespaceContextBuilder namespaceContextBuilder;
 
+    @Autowired(required=false)
+    private MessageStoreFactory messageStoreFactory;
+
     /** Spring bean application context */
     private ApplicationContext applicationContext;
     
@@ -147,6 +151,10 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
             factory.setNamespaceContextBuilder(applicationContext.getBean(NamespaceContextBuilder.class));
         }
 
+        if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(MessageStoreFactory.class))) {
+            factory.setMessageStoreFactory(applicationContext.getBean(MessageStoreFactory.class));
+        }
+
         factory.setApplicationContext(applicationContext);
 
         return factory;
@@ -172,6 +180,10 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
             context.setNamespaceContextBuilder(namespaceContextBuilder);
         }
 
+        if (messageStoreFactory != null) {
+            context.setMessageStore(messageStoreFactory.create());
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Created new test context - using global variables: '"
                     + context.getGlobalVariables() + "'");
@@ -272,6 +284,22 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
         this.referenceResolver = referenceResolver;
     }
 
+    /**
+     * Sets the message store factory.
+     * @param messageStoreFactory
+     */
+    public void setMessageStoreFactory(MessageStoreFactory messageStoreFactory) {
+        this.messageStoreFactory = messageStoreFactory;
+    }
+
+    /**
+     * Gets the message store factory.
+     * @return
+     */
+    public MessageStoreFactory getMessageStoreFactory() {
+        return messageStoreFactory;
+    }
+
     /**
      * Sets the namespace context builder.
      * @param namespaceContextBuilder
@@ -29,20 +29,30 @@ import com.consol.citrus.server.AbstractServer;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.CollectionUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Special request dispatching endpoint adapter invokes XML test case for each incoming message. Incoming message is
  * passed to test case via normal message channel connection as usual.
  *
+ * Parsed test case application contexts are cached per test name by default so each request only instantiates a fresh
+ * prototype test case instance instead of parsing the test XML file over and over again.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointAdapter implements InitializingBean, BeanNameAware, ApplicationContextAware {
+public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointAdapter implements InitializingBean, DisposableBean, BeanNameAware, ApplicationContextAware {
     /** Executor start action sequence logic in separate thread task */
     private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
 
@@ -61,6 +71,15 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
     /** Default package to search for Xml test case files */
     private String packageName = "com.consol.citrus.tests";
 
+    /** Should cache parsed test case application contexts per test name */
+    private boolean cacheTestContexts = true;
+
+    /** Optional list of test names to parse on startup */
+    private List<String> preloadTests = new ArrayList<>();
+
+    /** Cached test case application contexts by test name */
+    private final Map<String, ClassPathXmlApplicationContext> testContexts = new ConcurrentHashMap<>();
+
     @Override
     public Message dispatchMessage(final Message request, String mappingName) {
         final TestCase test;
@@ -91,7 +110,7 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
      * @return the new test case.
      */
     protected TestCase getTestCase(TestContext context, String testName) {
-        ClassPathXmlApplicationContext ctx = createApplicationContext(context, packageName, testName);
+        ClassPathXmlApplicationContext ctx = getApplicationContext(context, testName);
 
         try {
             TestCase testCase = ctx.getBean(testName, TestCase.class);
@@ -104,16 +123,53 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
     }
 
     /**
-     * Creates the Spring application context.
+     * Gets the test case application context either from cache or by creating a new one.
+     * @param context
+     * @param testName
      * @return
      */
-    protected ClassPathXmlApplicationContext createApplicationContext(TestContext context, String packageName, String testName) {
+    private ClassPathXmlApplicationContext getApplicationContext(TestContext context, String testName) {
+        if (!cacheTestContexts) {
+            return createApplicationContext(context, packageName, testName);
+        }
+
+        ClassPathXmlApplicationContext ctx = testContexts.get(testName);
+        if (ctx == null) {
+            ctx = createApplicationContext(context, packageName, testName);
+            ClassPathXmlApplicationContext existing = testContexts.putIfAbsent(testName, ctx);
+            if (existing != null) {
+                ctx.close();
+                ctx = existing;
+            }
+        }
+
+        return ctx;
+    }
+
+    /**
+     * Creates the Spring application context. Test case bean is switched to prototype scope so each bean lookup
+     * results in a fresh test case instance.
+     * @return
+     */
+    protected ClassPathXmlApplicationContext createApplicationContext(TestContext context, String packageName, final String testName) {
         try {
-            return new ClassPathXmlApplicationContext(
+            ClassPathXmlApplicationContext ctx = new ClassPathXmlApplicationContext(
                     new String[] {
                             packageName.replace('.', '/') + "/" + testName + ".xml",
                             "com/consol/citrus/spring/annotation-config-ctx.xml"},
-                    true, applicationContext);
+                    false, applicationContext);
+
+            ctx.addBeanFactoryPostProcessor(new BeanFactoryPostProcessor() {
+                @Override
+                public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+                    if (beanFactory.containsBeanDefinition(testName)) {
+                        beanFactory.getBeanDefinition(testName).setScope(BeanDefinition.SCOPE_PROTOTYPE);
+                    }
+                }
+            });
+            ctx.refresh();
+
+            return ctx;
         } catch (Exception e) {
             throw context.handleError(getClass().getSimpleName(), getClass().getPackage().getName(), "Failed to load test case", e);
         }
@@ -148,6 +204,22 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
             mappingStrategy.setApplicationContext(applicationContext);
             setMappingStrategy(mappingStrategy);
         }
+
+        if (cacheTestContexts && !CollectionUtils.isEmpty(preloadTests)) {
+            TestContext context = testContextFactory.getObject();
+            for (String testName : preloadTests) {
+                getApplicationContext(context, testName);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (ClassPathXmlApplicationContext ctx : testContexts.values()) {
+            ctx.close();
+        }
+
+        testContexts.clear();
     }
 
     /**
@@ -174,6 +246,38 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
         this.packageName = packageName;
     }
 
+    /**
+     * Gets the cache test contexts.
+     * @return
+     */
+    public boolean isCacheTestContexts() {
+        return cacheTestContexts;
+    }
+
+    /**
+     * Sets the cache test contexts. When disabled test case XML files are parsed for each request.
+     * @param cacheTestContexts
+     */
+    public void setCacheTestContexts(boolean cacheTestContexts) {
+        this.cacheTestContexts = cacheTestContexts;
+    }
+
+    /**
+     * Gets the preload tests.
+     * @return
+     */
+    public List<String> getPreloadTests() {
+        return preloadTests;
+    }
+
+    /**
+     * Sets the test names to parse and cache on startup.
+     * @param preloadTests
+     */
+    public void setPreloadTests(List<String> preloadTests) {
+        this.preloadTests = preloadTests;
+    }
+
     /**
      * Gets the task executor.
      * @return
@@ -36,6 +36,15 @@ public class ParallelContainerException extends CitrusRuntimeException {
         super();
         
         this.exceptions = nestedExceptions;
+        nestedExceptions.forEach(this::addSuppressed);
+    }
+
+    /**
+     * Gets the nested exceptions raised by failed parallel actions.
+     * @return
+     */
+    public List<CitrusRuntimeException> getExceptions() {
+        return exceptions;
     }
     
     @Override
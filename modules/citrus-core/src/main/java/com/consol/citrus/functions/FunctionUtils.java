@@ -58,26 +58,26 @@ public final class FunctionUtils {
         }
         
         String newString = stringValue;
-        StringBuffer strBuffer = new StringBuffer();
 
-        boolean isVarComplete = false;
-        StringBuffer variableNameBuf = new StringBuffer();
+        for (FunctionLibrary library: context.getFunctionRegistry().getFunctionLibraries()) {
+            int startIndex = 0;
+            int curIndex;
+            int searchIndex = newString.indexOf(library.getPrefix());
 
-        int startIndex = 0;
-        int curIndex;
-        int searchIndex;
+            if (searchIndex < 0) {
+                continue;
+            }
 
-        for (FunctionLibrary library: context.getFunctionRegistry().getFunctionLibraries()) {
-            startIndex = 0;
+            StringBuilder strBuilder = new StringBuilder(newString.length());
 
-            while ((searchIndex = newString.indexOf(library.getPrefix(), startIndex)) != -1) {
+            do {
                 int control = -1;
-                isVarComplete = false;
+                boolean isVarComplete = false;
 
                 curIndex = searchIndex;
 
                 while (curIndex < newString.length() && !isVarComplete) {
-                    if (newString.indexOf('(', curIndex) == curIndex) {
+                    if (newString.charAt(curIndex) == '(') {
                         control++;
                     }
 
@@ -89,30 +89,24 @@ public final class FunctionUtils {
                         }
                     }
 
-                    variableNameBuf.append(newString.charAt(curIndex));
                     curIndex++;
                 }
 
-                final String value = resolveFunction(variableNameBuf.toString(), context);
+                final String value = resolveFunction(newString.substring(searchIndex, curIndex), context);
 
-                strBuffer.append(newString.substring(startIndex, searchIndex));
+                strBuilder.append(newString, startIndex, searchIndex);
 
                 if (enableQuoting) {
-                    strBuffer.append("'" + value + "'");
+                    strBuilder.append('\'').append(value).append('\'');
                 } else {
-                    strBuffer.append(value);
+                    strBuilder.append(value);
                 }
 
                 startIndex = curIndex;
+            } while ((searchIndex = newString.indexOf(library.getPrefix(), startIndex)) != -1);
 
-                variableNameBuf = new StringBuffer();
-                isVarComplete = false;
-            }
-
-            strBuffer.append(newString.substring(startIndex));
-            newString = strBuffer.toString();
-
-            strBuffer = new StringBuffer();
+            strBuilder.append(newString, startIndex, newString.length());
+            newString = strBuilder.toString();
         }
 
         return newString;
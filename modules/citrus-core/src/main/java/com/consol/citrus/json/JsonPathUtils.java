@@ -17,6 +17,7 @@
 package com.consol.citrus.json;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.validation.json.JsonPathFunctions;
 import com.jayway.jsonpath.*;
 import net.minidev.json.JSONArray;
@@ -33,6 +34,24 @@ import java.util.Optional;
  */
 public class JsonPathUtils {
 
+    /**
+     * Parse payload of given message to JSON read context. Parsed read context is cached with the message
+     * so subsequent calls for the same message payload do not parse the payload again. Callers must not
+     * modify the returned JSON content.
+     * @param message
+     * @return
+     */
+    public static ReadContext parseMessagePayload(Message message) {
+        return message.getParsedPayload(ReadContext.class, m -> {
+            try {
+                JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
+                return JsonPath.parse(parser.parse(m.getPayload(String.class)));
+            } catch (ParseException e) {
+                throw new CitrusRuntimeException("Failed to parse JSON text", e);
+            }
+        });
+    }
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as object.
      * @param payload
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Message store with bounded capacity. Least recently used messages are evicted as soon as the maximum number of
+ * messages or the maximum number of payload bytes held in memory is exceeded. Large String and byte array payloads
+ * can be spilled to files. Spilled payloads are read back from file when the message is requested. String payloads
+ * are measured in bytes using the Citrus file encoding.
+ *
+ * Spill files are deleted as soon as messages are evicted or removed. Test cases clear the store of their test context
+ * when the test has finished so no spill files are left behind.
+ *
+ * Note that spilled messages are restored as {@link DefaultMessage} instances with same payload, headers, header data
+ * and name. The original message type is not preserved, so specialized messages such as HTTP or SOAP messages are
+ * returned as plain {@link DefaultMessage} once their payload has been spilled. Messages kept in memory are returned
+ * as stored.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class BoundedMessageStore implements MessageStore {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(BoundedMessageStore.class);
+
+    /** Maximum number of stored messages, zero or negative for no limit */
+    private final int maxMessages;
+
+    /** Maximum number of payload bytes held in memory, zero or negative for no limit */
+    private final long maxBytes;
+
+    /** Payload size in bytes that causes payloads to be spilled to file, zero or negative to disable spilling */
+    private final long spillThreshold;
+
+    /** Directory holding spilled payload files */
+    private final Path spillDirectory;
+
+    /** Stored entries in least recently used order */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Store metrics */
+    private long storedBytes = 0L;
+    private long spilledBytes = 0L;
+    private long evictions = 0L;
+    private long spills = 0L;
+
+    /**
+     * Default constructor using no limits and no spilling.
+     */
+    public BoundedMessageStore() {
+        this(0, 0L, 0L, null);
+    }
+
+    /**
+     * Constructor using limits and spill settings.
+     * @param maxMessages
+     * @param maxBytes
+     * @param spillThreshold
+     * @param spillDirectory directory for spilled payloads, system temp directory if null
+     */
+    public BoundedMessageStore(int maxMessages, long maxBytes, long spillThreshold, Path spillDirectory) {
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = Optional.ofNullable(spillDirectory)
+                .orElse(Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    @Override
+    public synchronized Message getMessage(String id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.getMessage() : null;
+    }
+
+    @Override
+    public synchronized void storeMessage(String id, Message message) {
+        remove(id);
+
+        Entry entry = createEntry(message);
+        entries.put(id, entry);
+
+        if (entry instanceof SpilledEntry) {
+            spills++;
+            spilledBytes += entry.size;
+        } else {
+            storedBytes += entry.size;
+        }
+
+        evict();
+    }
+
+    /**
+     * Clears this store when the test case has finished so no spill files are left behind.
+     */
+    @Override
+    public void finish() {
+        clear();
+    }
+
+    /**
+     * Removes all messages from this store and deletes spilled payload files.
+     */
+    public synchronized void clear() {
+        new ArrayList<>(entries.keySet()).forEach(this::remove);
+    }
+
+    /**
+     * Gets the number of stored messages.
+     * @return
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Creates in memory or spilled entry for given message.
+     * @param message
+     * @return
+     */
+    private Entry createEntry(Message message) {
+        Object payload = message.getPayload();
+        long size = getPayloadSize(payload);
+
+        if (spillThreshold > 0 && size >= spillThreshold) {
+            try {
+                return new SpilledEntry(message, spill(payload), size);
+            } catch (IOException e) {
+                log.warn("Failed to spill message payload to file - keeping message in memory", e);
+            }
+        }
+
+        return new Entry(message, size);
+    }
+
+    /**
+     * Evicts least recently used messages as long as limits are exceeded.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && isLimitExceeded()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Evicting message '%s' from message store", eldest.getKey()));
+            }
+
+            iterator.remove();
+            release(eldest.getValue());
+            evictions++;
+        }
+    }
+
+    /**
+     * Checks if one of the configured limits is exceeded.
+     * @return
+     */
+    private boolean isLimitExceeded() {
+        return (maxMessages > 0 && entries.size() > maxMessages) ||
+                (maxBytes > 0 && storedBytes > maxBytes);
+    }
+
+    /**
+     * Removes entry with given id and releases its resources.
+     * @param id
+     */
+    private void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            release(entry);
+        }
+    }
+
+    /**
+     * Updates metrics and deletes spilled payload file of given entry.
+     * @param entry
+     */
+    private void release(Entry entry) {
+        if (entry instanceof SpilledEntry) {
+            spilledBytes -= entry.size;
+            try {
+                Files.deleteIfExists(((SpilledEntry) entry).file);
+            } catch (IOException e) {
+                log.warn("Failed to delete spilled message payload file", e);
+            }
+        } else {
+            storedBytes -= entry.size;
+        }
+    }
+
+    /**
+     * Writes payload to new spill file.
+     * @param payload
+     * @return
+     * @throws IOException
+     */
+    private Path spill(Object payload) throws IOException {
+        Files.createDirectories(spillDirectory);
+        Path file = Files.createTempFile(spillDirectory, "citrus-message-", ".payload");
+
+        try {
+            Files.write(file, getPayloadBytes(payload));
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        return file;
+    }
+
+    /**
+     * Gets payload size in bytes. Only String and byte array payloads are measured, String payloads count their
+     * encoded bytes and all other payload types count zero bytes.
+     * @param payload
+     * @return
+     */
+    private static long getPayloadSize(Object payload) {
+        if (payload instanceof String) {
+            return getEncodedLength((String) payload);
+        } else if (payload instanceof byte[]) {
+            return ((byte[]) payload).length;
+        }
+
+        return 0L;
+    }
+
+    /**
+     * Gets number of bytes of given String in Citrus file encoding. UTF-8 and single byte encodings are counted
+     * without encoding the String.
+     * @param payload
+     * @return
+     */
+    private static long getEncodedLength(String payload) {
+        Charset charset = getCharset();
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            long length = 0L;
+            for (int i = 0; i < payload.length(); i++) {
+                char c = payload.charAt(i);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < payload.length() && Character.isLowSurrogate(payload.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    length++;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        } else if (charset.newEncoder().maxBytesPerChar() == 1.0f) {
+            return payload.length();
+        }
+
+        return payload.getBytes(charset).length;
+    }
+
+    /**
+     * Gets payload as byte array.
+     * @param payload
+     * @return
+     */
+    private static byte[] getPayloadBytes(Object payload) {
+        if (payload instanceof byte[]) {
+            return (byte[]) payload;
+        }
+
+        return payload.toString().getBytes(getCharset());
+    }
+
+    /**
+     * Gets the charset used to write String payloads.
+     * @return
+     */
+    private static Charset getCharset() {
+        return Charset.forName(Citrus.CITRUS_FILE_ENCODING);
+    }
+
+    /**
+     * Gets the number of payload bytes held in memory.
+     * @return
+     */
+    public synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    /**
+     * Gets the number of payload bytes spilled to file.
+     * @return
+     */
+    public synchronized long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    /**
+     * Gets the number of evicted messages.
+     * @return
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the number of spilled messages.
+     * @return
+     */
+    public synchronized long getSpills() {
+        return spills;
+    }
+
+    /**
+     * Store entry holding message in memory.
+     */
+    private static class Entry {
+        private final Message message;
+        private final long size;
+
+        Entry(Message message, long size) {
+            this.message = message;
+            this.size = size;
+        }
+
+        Message getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * Store entry holding message headers in memory and payload in spill file.
+     */
+    private static class SpilledEntry extends Entry {
+        private final Path file;
+        private final boolean binary;
+        private final Map<String, Object> headers;
+        private final List<String> headerData;
+        private final String name;
+
+        SpilledEntry(Message message, Path file, long size) {
+            super(null, size);
+            this.file = file;
+            this.binary = message.getPayload() instanceof byte[];
+            this.headers = new LinkedHashMap<>(message.getHeaders());
+            this.headerData = new ArrayList<>(message.getHeaderData());
+            this.name = message.getName();
+        }
+
+        @Override
+        Message getMessage() {
+            try {
+                byte[] bytes = Files.readAllBytes(file);
+
+                DefaultMessage message = new DefaultMessage(binary ? bytes : new String(bytes, getCharset()), headers);
+                message.setName(name);
+                headerData.forEach(message::addHeaderData);
+                return message;
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to read spilled message payload", e);
+            }
+        }
+    }
+
+    /**
+     * Message store factory creating bounded message stores with same settings.
+     */
+    public static class Factory implements MessageStoreFactory {
+        private int maxMessages = 0;
+        private long maxBytes = 0L;
+        private long spillThreshold = 0L;
+        private String spillDirectory;
+
+        @Override
+        public MessageStore create() {
+            return new BoundedMessageStore(maxMessages, maxBytes, spillThreshold,
+                    spillDirectory != null ? Paths.get(spillDirectory) : null);
+        }
+
+        /**
+         * Sets the maximum number of stored messages.
+         * @param maxMessages
+         */
+        public void setMaxMessages(int maxMessages) {
+            this.maxMessages = maxMessages;
+        }
+
+        /**
+         * Sets the maximum number of payload bytes held in memory.
+         * @param maxBytes
+         */
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        /**
+         * Sets the payload size in bytes that causes payloads to be spilled to file.
+         * @param spillThreshold
+         */
+        public void setSpillThreshold(long spillThreshold) {
+            this.spillThreshold = spillThreshold;
+        }
+
+        /**
+         * Sets the directory holding spilled payload files.
+         * @param spillDirectory
+         */
+        public void setSpillDirectory(String spillDirectory) {
+            this.spillDirectory = spillDirectory;
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.consol.citrus.util.TypeConversionUtils;
 import org.springframework.util.CollectionUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Default message implementation holds message payload and message headers. Also provides access methods for special
@@ -46,6 +48,12 @@ public class DefaultMessage implements Message {
     /** The message name for internal use */
     private String name;
 
+    /** Cached parsed payload representations by type */
+    private transient Map<Class<?>, Object> parsedPayloads;
+
+    /** Payload instance the cached parsed representations belong to */
+    private transient Object parsedPayloadSource;
+
     /**
      * Empty constructor initializing with empty message payload.
      */
@@ -155,6 +163,41 @@ public class DefaultMessage implements Message {
     @Override
     public void setPayload(Object payload) {
         this.payload = payload;
+        this.parsedPayloads = null;
+        this.parsedPayloadSource = null;
+    }
+
+    /**
+     * Caches parsed representations for immutable String payloads. Cache is reset as soon as the
+     * payload changes.
+     * @param type
+     * @param parser
+     * @param <T>
+     * @return
+     */
+    @Override
+    public <T> T getParsedPayload(Class<T> type, Function<Message, T> parser) {
+        Object source = getPayload();
+        if (!(source instanceof String)) {
+            return parser.apply(this);
+        }
+
+        Map<Class<?>, Object> cache = parsedPayloads;
+        if (cache == null || parsedPayloadSource != source) {
+            cache = new ConcurrentHashMap<>();
+            parsedPayloads = cache;
+            parsedPayloadSource = source;
+        }
+
+        Object parsed = cache.get(type);
+        if (parsed == null) {
+            parsed = parser.apply(this);
+            if (parsed != null) {
+                cache.put(type, parsed);
+            }
+        }
+
+        return type.cast(parsed);
     }
 
     @Override
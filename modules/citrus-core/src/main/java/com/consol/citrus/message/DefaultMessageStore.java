@@ -16,9 +16,6 @@
 
 package com.consol.citrus.message;
 
-import com.consol.citrus.TestAction;
-import com.consol.citrus.endpoint.Endpoint;
-
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -36,9 +33,4 @@ public class DefaultMessageStore extends ConcurrentHashMap<String, Message> impl
     public void storeMessage(String id, Message message) {
         super.put(id, message);
     }
-
-    @Override
-    public String constructMessageName(TestAction action, Endpoint endpoint) {
-        return action.getName() + "(" + endpoint.getName() + ")";
-    }
 }
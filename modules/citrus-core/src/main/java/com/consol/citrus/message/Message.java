@@ -19,6 +19,7 @@ package com.consol.citrus.message;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * @author Christoph Deppisch
@@ -105,4 +106,18 @@ public interface Message extends Serializable {
      */
     void setPayload(Object payload);
 
+    /**
+     * Gets parsed representation of the message payload such as a DOM document. Given parser is called
+     * to create the representation. Implementations may cache the parsed representation as long as the payload
+     * is not changed so multiple validators and extractors working on the same message parse the payload only once.
+     * Callers must not modify the returned representation.
+     * @param type
+     * @param parser
+     * @param <T>
+     * @return
+     */
+    default <T> T getParsedPayload(Class<T> type, Function<Message, T> parser) {
+        return parser.apply(this);
+    }
+
 }
@@ -29,5 +29,20 @@ public interface MessageStore {
 
     void storeMessage(String id, Message message);
 
-    String constructMessageName(TestAction action, Endpoint endpoint);
+    /**
+     * Constructs default message name for given test action and endpoint.
+     * @param action
+     * @param endpoint
+     * @return
+     */
+    default String constructMessageName(TestAction action, Endpoint endpoint) {
+        return action.getName() + "(" + endpoint.getName() + ")";
+    }
+
+    /**
+     * Callback invoked when the test case using this message store has finished. Implementations may release
+     * resources held for stored messages. Default implementation does nothing.
+     */
+    default void finish() {
+    }
 }
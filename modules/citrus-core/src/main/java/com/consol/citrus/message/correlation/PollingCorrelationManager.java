@@ -22,11 +22,19 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.*;
+
 /**
  * Extension of default correlation manager adds polling mechanism for find operation on object store.
  * In case object is not found in store retry is automatically performed. Polling interval and overall retry timeout
  * is usually defined in endpoint configuration.
  *
+ * Clients waiting for an object or correlation key register a waiter with the respective key. Waiters get completed as soon
+ * as the object or correlation key is stored so clients do not have to wait for the next polling interval. Polling interval
+ * is only used as upper bound for waiting in between store lookups. Stored objects that are never consumed may be expired
+ * after a configurable amount of time in order to keep the object store from growing unbounded.
+ *
  * @author Christoph Deppisch
  * @since 2.1
  */
@@ -42,6 +50,24 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
     /** Retry logger */
     private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
 
+    /** Polling interval when waiting for correlation key to be saved */
+    private static final long CORRELATION_KEY_POLLING_INTERVAL = 300L;
+
+    /** Timeout when waiting for correlation key to be saved */
+    private static final long CORRELATION_KEY_TIMEOUT = 1000L;
+
+    /** Waiters for objects not stored yet */
+    private final Map<String, CompletableFuture<Boolean>> objectWaiters = new ConcurrentHashMap<>();
+
+    /** Waiters for correlation keys not saved yet */
+    private final Map<String, CompletableFuture<Boolean>> correlationKeyWaiters = new ConcurrentHashMap<>();
+
+    /** Store timestamps of objects not consumed yet, only tracked when object expiry is enabled */
+    private final Map<String, Long> storeTimestamps = new ConcurrentHashMap<>();
+
+    /** Time in milliseconds after which stored objects that have not been consumed get removed from store, zero or less disables expiry */
+    private long objectExpiry = 0L;
+
     /**
      * Constructor using fields.
      * @param endpointConfiguration
@@ -61,68 +87,184 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return find(correlationKey, endpointConfiguration.getTimeout());
     }
 
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+        notifyWaiters(correlationKeyWaiters, correlationKeyName);
+    }
+
     @Override
     public String getCorrelationKey(String correlationKeyName, TestContext context) {
         if (log.isDebugEnabled()) {
             log.debug(String.format("Get correlation key for '%s'", correlationKeyName));
         }
 
-        String correlationKey = null;
-        if (context.getVariables().containsKey(correlationKeyName)) {
-            correlationKey = context.getVariable(correlationKeyName);
-        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CORRELATION_KEY_TIMEOUT);
+        long timeLeft = CORRELATION_KEY_TIMEOUT;
 
-        long timeLeft = 1000L;
-        long pollingInterval = 300L;
-        while (correlationKey == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+        CompletableFuture<Boolean> waiter = registerWaiter(correlationKeyWaiters, correlationKeyName);
+        try {
+            String correlationKey = lookupCorrelationKey(correlationKeyName, context);
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("Correlation key not available yet - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
-            }
+            while (correlationKey == null && timeLeft > 0) {
+                long waitTime = Math.min(CORRELATION_KEY_POLLING_INTERVAL, timeLeft);
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug("Correlation key not available yet - retrying in " + waitTime + "ms");
+                }
+
+                waiter = awaitWaiter(correlationKeyWaiters, correlationKeyName, waiter, waitTime);
+                correlationKey = lookupCorrelationKey(correlationKeyName, context);
+                timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
             }
 
-            if (context.getVariables().containsKey(correlationKeyName)) {
-                correlationKey = context.getVariable(correlationKeyName);
+            if (correlationKey == null) {
+                throw new CitrusRuntimeException(String.format("Failed to get correlation key for '%s'", correlationKeyName));
             }
+
+            return correlationKey;
+        } finally {
+            correlationKeyWaiters.remove(correlationKeyName, waiter);
         }
+    }
+
+    @Override
+    public void store(String correlationKey, T object) {
+        if (objectExpiry > 0) {
+            expireObjects();
 
-        if (correlationKey == null) {
-            throw new CitrusRuntimeException(String.format("Failed to get correlation key for '%s'", correlationKeyName));
+            if (object != null) {
+                storeTimestamps.put(correlationKey, System.currentTimeMillis());
+            }
         }
 
-        return correlationKey;
+        super.store(correlationKey, object);
+
+        if (object != null) {
+            notifyWaiters(objectWaiters, correlationKey);
+        }
     }
 
     @Override
     public T find(String correlationKey, long timeout) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
         long timeLeft = timeout;
         long pollingInterval = endpointConfiguration.getPollingInterval();
 
-        T stored = super.find(correlationKey, timeLeft);
+        CompletableFuture<Boolean> waiter = registerWaiter(objectWaiters, correlationKey);
+        try {
+            T stored = super.find(correlationKey, timeLeft);
 
-        while (stored == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+            while (stored == null && timeLeft > 0) {
+                long waitTime = Math.min(pollingInterval, timeLeft);
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug(retryLogMessage + " - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug(retryLogMessage + " - retrying in " + waitTime + "ms");
+                }
+
+                waiter = awaitWaiter(objectWaiters, correlationKey, waiter, waitTime);
+                timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                stored = super.find(correlationKey, timeLeft);
             }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+            if (stored != null && objectExpiry > 0) {
+                storeTimestamps.remove(correlationKey);
             }
 
-            stored = super.find(correlationKey, timeLeft);
+            return stored;
+        } finally {
+            objectWaiters.remove(correlationKey, waiter);
+        }
+    }
+
+    /**
+     * Removes all stored objects that have not been consumed within the object expiry time.
+     */
+    private void expireObjects() {
+        long expiredBefore = System.currentTimeMillis() - objectExpiry;
+
+        for (Map.Entry<String, Long> entry : storeTimestamps.entrySet()) {
+            if (entry.getValue() < expiredBefore && storeTimestamps.remove(entry.getKey(), entry.getValue())) {
+                if (getObjectStore().remove(entry.getKey()) != null) {
+                    log.warn(String.format("Removed expired correlated object for '%s'", entry.getKey()));
+                }
+            }
         }
+    }
 
-        return stored;
+    /**
+     * Gets correlation key from test context or null if not present.
+     * @param correlationKeyName
+     * @param context
+     * @return
+     */
+    private String lookupCorrelationKey(String correlationKeyName, TestContext context) {
+        if (context.getVariables().containsKey(correlationKeyName)) {
+            return context.getVariable(correlationKeyName);
+        }
+
+        return null;
+    }
+
+    /**
+     * Registers new waiter for given key or joins already existing waiter.
+     * @param waiters
+     * @param key
+     * @return
+     */
+    private CompletableFuture<Boolean> registerWaiter(Map<String, CompletableFuture<Boolean>> waiters, String key) {
+        return waiters.computeIfAbsent(key, k -> new CompletableFuture<>());
+    }
+
+    /**
+     * Completes waiter registered for given key, if any.
+     * @param waiters
+     * @param key
+     */
+    private void notifyWaiters(Map<String, CompletableFuture<Boolean>> waiters, String key) {
+        CompletableFuture<Boolean> waiter = waiters.remove(key);
+        if (waiter != null) {
+            waiter.complete(true);
+        }
+    }
+
+    /**
+     * Waits for given waiter to complete within wait time. Returns waiter to use for next wait operation. When current waiter has been
+     * completed new waiter is registered before returning so subsequent notifications are not lost in between store lookups.
+     * @param waiters
+     * @param key
+     * @param waiter
+     * @param waitTime
+     * @return
+     */
+    private CompletableFuture<Boolean> awaitWaiter(Map<String, CompletableFuture<Boolean>> waiters, String key,
+                                                   CompletableFuture<Boolean> waiter, long waitTime) {
+        try {
+            waiter.get(waitTime, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+        } catch (ExecutionException | TimeoutException e) {
+            return waiter;
+        }
+
+        return registerWaiter(waiters, key);
+    }
+
+    /**
+     * Gets the object expiry time in milliseconds.
+     * @return
+     */
+    public long getObjectExpiry() {
+        return objectExpiry;
+    }
+
+    /**
+     * Sets the time in milliseconds after which stored objects that have not been consumed are removed from the store.
+     * Zero or negative values disable object expiry.
+     * @param objectExpiry
+     */
+    public void setObjectExpiry(long objectExpiry) {
+        this.objectExpiry = objectExpiry;
     }
 
     /**
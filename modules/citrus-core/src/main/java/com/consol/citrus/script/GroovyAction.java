@@ -16,7 +16,6 @@
 
 package com.consol.citrus.script;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 
 import org.slf4j.Logger;
@@ -29,9 +28,6 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
-
 /**
  * Action executes groovy scripts either specified inline or from external file resource.
  * 
@@ -73,20 +69,13 @@ public class GroovyAction extends AbstractTestAction {
     @Override
     public void doExecute(TestContext context) {
         try {
-            GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                public GroovyClassLoader run() {
-                    ClassLoader parent = getClass().getClassLoader();
-                    return new GroovyClassLoader(parent);
-                }
-            });
-
             assertScriptProvided();
 
             String rawCode = StringUtils.hasText(script) ? script.trim() : FileUtils.readToString(FileUtils.getFileResource(scriptResourcePath, context));
             String code = context.replaceDynamicContentInString(rawCode.trim());
 
             // load groovy code
-            Class<?> groovyClass = loader.parseClass(code);
+            Class<?> groovyClass = GroovyScriptClassCache.getScriptClass(code);
             // Instantiate an object from groovy code
             GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
 
@@ -104,7 +93,7 @@ public class GroovyAction extends AbstractTestAction {
                             .build();
                 }
 
-                groovyClass = loader.parseClass(code);
+                groovyClass = GroovyScriptClassCache.getScriptClass(code);
                 groovyObject = (GroovyObject) groovyClass.newInstance();
             }
 
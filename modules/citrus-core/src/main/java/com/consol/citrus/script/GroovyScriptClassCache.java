@@ -0,0 +1,141 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import groovy.lang.GroovyClassLoader;
+
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared bounded cache of compiled Groovy script classes. Scripts are identified by a hash of the final script source so
+ * same script code is compiled only once. Each script is compiled with its own class loader so evicted script classes
+ * can be unloaded by the garbage collector and do not fill up metaspace.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class GroovyScriptClassCache {
+
+    /** System property setting the max number of cached script classes */
+    public static final String CACHE_SIZE_PROPERTY = "citrus.groovy.script.cache.size";
+
+    /** Max number of cached script classes */
+    private static final int MAX_SIZE = Integer.valueOf(System.getProperty(CACHE_SIZE_PROPERTY, "500"));
+
+    /** Compiled script classes by script hash in least recently used order */
+    private static final Map<String, Class<?>> SCRIPT_CLASSES = Collections.synchronizedMap(new LinkedHashMap<String, Class<?>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Class<?>> eldest) {
+            return size() > MAX_SIZE;
+        }
+    });
+
+    /** Number of script compilations */
+    private static final AtomicLong COMPILATIONS = new AtomicLong();
+
+    /**
+     * Prevent instantiation.
+     */
+    private GroovyScriptClassCache() {
+        super();
+    }
+
+    /**
+     * Gets compiled class for given script source. Script is compiled on first access.
+     * @param script
+     * @return
+     */
+    public static Class<?> getScriptClass(String script) {
+        String key = hash(script);
+
+        Class<?> scriptClass = SCRIPT_CLASSES.get(key);
+        if (scriptClass == null) {
+            scriptClass = compile(script);
+
+            if (scriptClass != null) {
+                Class<?> existing = SCRIPT_CLASSES.putIfAbsent(key, scriptClass);
+                if (existing != null) {
+                    scriptClass = existing;
+                }
+            }
+        }
+
+        return scriptClass;
+    }
+
+    /**
+     * Compiles script with new Groovy class loader.
+     * @param script
+     * @return
+     */
+    private static Class<?> compile(String script) {
+        GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
+            public GroovyClassLoader run() {
+                return new GroovyClassLoader(GroovyScriptClassCache.class.getClassLoader());
+            }
+        });
+
+        COMPILATIONS.incrementAndGet();
+        return loader.parseClass(script);
+    }
+
+    /**
+     * Builds SHA-256 hex hash of script source.
+     * @param script
+     * @return
+     */
+    private static String hash(String script) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(script.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to create script hash", e);
+        }
+    }
+
+    /**
+     * Gets the number of cached script classes.
+     * @return
+     */
+    public static int size() {
+        return SCRIPT_CLASSES.size();
+    }
+
+    /**
+     * Gets the total number of script compilations.
+     * @return
+     */
+    public static long getCompilations() {
+        return COMPILATIONS.get();
+    }
+
+    /**
+     * Removes all cached script classes.
+     */
+    public static void clear() {
+        SCRIPT_CLASSES.clear();
+    }
+}
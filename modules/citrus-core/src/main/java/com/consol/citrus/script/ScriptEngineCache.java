@@ -0,0 +1,192 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+import javax.script.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared cache of script engines and compiled scripts. Looking up script engines via service loader is expensive so engines
+ * are cached per engine name. Engines that declare themselves thread safe are shared among all threads, others are cached
+ * per thread. Scripts are compiled once per engine when engine supports compilation. Each evaluation uses fresh engine scope
+ * bindings so scripts do not see state of previous evaluations.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class ScriptEngineCache {
+
+    /** Max number of compiled scripts per engine */
+    private static final int MAX_COMPILED_SCRIPTS = 500;
+
+    /** Script engine manager used to look up engines */
+    private static final ScriptEngineManager ENGINE_MANAGER = new ScriptEngineManager();
+
+    /** Thread safe engines by engine name */
+    private static final Map<String, CachedEngine> SHARED_ENGINES = new ConcurrentHashMap<>();
+
+    /** Thread bound engines by engine name */
+    private static final Map<String, ThreadLocal<CachedEngine>> THREAD_ENGINES = new ConcurrentHashMap<>();
+
+    /** Number of script compilations */
+    private static final AtomicLong COMPILATIONS = new AtomicLong();
+
+    /** Number of script evaluations */
+    private static final AtomicLong EVALUATIONS = new AtomicLong();
+
+    /**
+     * Prevent instantiation.
+     */
+    private ScriptEngineCache() {
+        super();
+    }
+
+    /**
+     * Evaluates script code with script engine of given name.
+     * @param scriptEngine
+     * @param code
+     * @return
+     * @throws ScriptException
+     */
+    public static Object eval(String scriptEngine, String code) throws ScriptException {
+        return getEngine(scriptEngine).eval(code);
+    }
+
+    /**
+     * Gets cached engine for current thread. Creates new engine on first access.
+     * @param scriptEngine
+     * @return
+     */
+    private static CachedEngine getEngine(String scriptEngine) {
+        CachedEngine engine = SHARED_ENGINES.get(scriptEngine);
+        if (engine != null) {
+            return engine;
+        }
+
+        ThreadLocal<CachedEngine> threadEngine = THREAD_ENGINES.get(scriptEngine);
+        if (threadEngine != null && threadEngine.get() != null) {
+            return threadEngine.get();
+        }
+
+        engine = new CachedEngine(createEngine(scriptEngine));
+        if (isThreadSafe(engine.engine)) {
+            CachedEngine existing = SHARED_ENGINES.putIfAbsent(scriptEngine, engine);
+            return existing != null ? existing : engine;
+        }
+
+        THREAD_ENGINES.computeIfAbsent(scriptEngine, name -> new ThreadLocal<>()).set(engine);
+        return engine;
+    }
+
+    /**
+     * Looks up new script engine by name.
+     * @param scriptEngine
+     * @return
+     */
+    private static ScriptEngine createEngine(String scriptEngine) {
+        ScriptEngine engine;
+        synchronized (ENGINE_MANAGER) {
+            engine = ENGINE_MANAGER.getEngineByName(scriptEngine);
+        }
+
+        if (engine == null) {
+            throw new CitrusRuntimeException("Unable to find script engine with name '" + scriptEngine + "'");
+        }
+
+        return engine;
+    }
+
+    /**
+     * Checks threading parameter of engine factory.
+     * @param engine
+     * @return
+     */
+    private static boolean isThreadSafe(ScriptEngine engine) {
+        return engine.getFactory().getParameter("THREADING") != null;
+    }
+
+    /**
+     * Gets the total number of script compilations.
+     * @return
+     */
+    public static long getCompilations() {
+        return COMPILATIONS.get();
+    }
+
+    /**
+     * Gets the total number of script evaluations.
+     * @return
+     */
+    public static long getEvaluations() {
+        return EVALUATIONS.get();
+    }
+
+    /**
+     * Removes all cached engines and compiled scripts.
+     */
+    public static void clear() {
+        SHARED_ENGINES.clear();
+        THREAD_ENGINES.clear();
+    }
+
+    /**
+     * Script engine with its compiled scripts.
+     */
+    private static class CachedEngine {
+        private final ScriptEngine engine;
+
+        private final Map<String, CompiledScript> compiledScripts = Collections.synchronizedMap(new LinkedHashMap<String, CompiledScript>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+                return size() > MAX_COMPILED_SCRIPTS;
+            }
+        });
+
+        CachedEngine(ScriptEngine engine) {
+            this.engine = engine;
+        }
+
+        /**
+         * Evaluates code with fresh engine scope bindings. Uses compiled script when supported by engine.
+         * @param code
+         * @return
+         * @throws ScriptException
+         */
+        Object eval(String code) throws ScriptException {
+            EVALUATIONS.incrementAndGet();
+            Bindings bindings = engine.createBindings();
+
+            if (engine instanceof Compilable) {
+                CompiledScript compiledScript = compiledScripts.get(code);
+                if (compiledScript == null) {
+                    COMPILATIONS.incrementAndGet();
+                    compiledScript = ((Compilable) engine).compile(code);
+                    compiledScripts.put(code, compiledScript);
+                }
+
+                return compiledScript.eval(bindings);
+            }
+
+            return engine.eval(code, bindings);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.consol.citrus.util;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.xml.XmlConfigurer;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.*;
@@ -89,6 +90,14 @@ public final class XMLUtils {
         return configurer.createLSOutput();
     }
 
+    /**
+     * Normalizes document with parser settings so it matches documents created by basic parser instances.
+     * @param document
+     */
+    public static void normalizeDocument(Document document) {
+        configurer.normalizeDocument(document);
+    }
+
     /**
      * Searches for a node within a DOM document with a given node path expression.
      * Elements are separated by '.' characters.
@@ -356,6 +365,18 @@ public final class XMLUtils {
         return parser.parse(receivedInput);
     }
 
+    /**
+     * Parse payload of given message with DOM implementation. Parsed document is cached with the message
+     * so subsequent calls for the same message payload do not parse the payload again. Callers must not
+     * modify the returned document.
+     * @param message
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document parseMessagePayload(Message message) {
+        return message.getParsedPayload(Document.class, m -> parseMessagePayload(m.getPayload(String.class)));
+    }
+
     /**
      * Try to find encoding for document node. Also supports Citrus default encoding set
      * as System property.
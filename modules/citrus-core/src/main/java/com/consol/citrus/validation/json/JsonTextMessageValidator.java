@@ -20,6 +20,7 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
@@ -27,8 +28,12 @@ import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.json.schema.JsonSchemaValidation;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.fasterxml.jackson.core.*;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -40,12 +45,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
 
 /**
  * This message validator implementation is able to validate two JSON text objects. The order of JSON entries can differ
@@ -56,6 +61,11 @@ import java.util.Set;
  * Validator offers two different modes to operate. By default strict mode is set and the validator will also check the exact amount of
  * control object fields to match. No additional fields in received JSON data structure will be accepted. In soft mode validator
  * allows additional fields in received JSON data structure so the control JSON object can be a partial subset.
+ *
+ * In streaming mode the received JSON text is read token by token instead of being parsed to a complete JSON object
+ * tree first. Array entries are validated one at a time so memory stays bounded for very large JSON arrays. Streaming mode
+ * requires well formed JSON text and is not used when JSONPath ignore expressions are set as these need the complete
+ * received JSON object tree.
  * 
  * @author Christoph Deppisch
  */
@@ -65,6 +75,13 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
     @Value("${citrus.json.message.validation.strict:true}")
     private boolean strict = true;
 
+    /** Should read received JSON text as stream */
+    @Value("${citrus.json.message.validation.streaming:false}")
+    private boolean streaming = false;
+
+    /** Factory for streaming JSON parsers */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     /** Root application context this validator is defined in */
     private ApplicationContext applicationContext;
 
@@ -107,25 +124,28 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             }
             
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-        
-            Object receivedJson = parser.parse(receivedJsonText);
-            ReadContext readContext = JsonPath.parse(receivedJson);
+
+            if (streaming && CollectionUtils.isEmpty(validationContext.getIgnoreExpressions())) {
+                validateJsonStream(receivedJsonText, parser.parse(controlJsonText), validationContext, context);
+                log.info("JSON message validation successful: All values OK");
+                return;
+            }
+
+            ReadContext readContext = JsonPathUtils.parseMessagePayload(receivedMessage);
+            Object receivedJson = readContext.json();
             Object controlJson = parser.parse(controlJsonText);
+            Set<String> ignoredPaths = resolveIgnoredPaths(validationContext.getIgnoreExpressions(), readContext);
+            String rootPath = ignoredPaths.isEmpty() ? null : "$";
             if (receivedJson instanceof JSONObject) {
-                validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, readContext);
+                validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, ignoredPaths, rootPath);
             } else if (receivedJson instanceof JSONArray) {
-                JSONObject tempReceived = new JSONObject();
-                tempReceived.put("array", receivedJson);
-                JSONObject tempControl = new JSONObject();
-                tempControl.put("array", controlJson);
-                
-                validateJson("$.", tempReceived, tempControl, validationContext, context, readContext);
+                validateJsonEntry("array", controlJson, receivedJson, validationContext, context, ignoredPaths, rootPath);
             } else {
                 throw new CitrusRuntimeException("Unsupported json type " + receivedJson.getClass());
             }
         } catch (IllegalArgumentException e) {
             throw new ValidationException(String.format("Failed to validate JSON text:%n%s", receivedJsonText), e);
-        } catch (ParseException e) {
+        } catch (ParseException | IOException e) {
             throw new CitrusRuntimeException("Failed to parse JSON text", e);
         }
         
@@ -164,8 +184,25 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
      * @param context the current test context.
      * @param readContext the JSONPath read context.
      */
-    @SuppressWarnings("rawtypes")
     public void validateJson(String elementName, JSONObject receivedJson, JSONObject controlJson, JsonMessageValidationContext validationContext, TestContext context, ReadContext readContext) {
+        Set<String> ignoredPaths = resolveIgnoredPaths(validationContext.getIgnoreExpressions(), readContext);
+        validateJson(elementName, receivedJson, controlJson, validationContext, context,
+                ignoredPaths, ignoredPaths.isEmpty() ? null : "$");
+    }
+
+    /**
+     * Validates JSON text with comparison to expected control JSON object. Ignored entries are given as
+     * set of normalized JSONPath expressions of received JSON entries.
+     *
+     * @param elementName the current element name that is under verification in this method
+     * @param receivedJson the received JSON text object.
+     * @param controlJson the expected control JSON text.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     * @param ignoredPaths the normalized paths of received JSON entries to ignore.
+     * @param path the normalized path of the received JSON object, null if no entries are ignored.
+     */
+    private void validateJson(String elementName, JSONObject receivedJson, JSONObject controlJson, JsonMessageValidationContext validationContext, TestContext context, Set<String> ignoredPaths, String path) {
         if (strict) {
             Assert.isTrue(controlJson.size() == receivedJson.size(),
                           ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedJson.size()));
@@ -179,91 +216,132 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
 
             Object controlValue = controlJsonEntry.getValue();
             Object receivedValue = receivedJson.get(controlKey);
+            String entryPath = getChildPath(path, controlKey);
 
             // check if entry is ignored by placeholder
-            if (isIgnored(controlKey, controlValue, receivedValue, validationContext.getIgnoreExpressions(), readContext)) {
+            if (isIgnored(controlKey, controlValue, entryPath, ignoredPaths)) {
                 continue;
             }
 
-            if (controlValue == null) {
-                Assert.isTrue(receivedValue == null,
-                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
-                                null, receivedValue));
-            } else if (receivedValue != null) {
-                if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
-                    ValidationMatcherUtils.resolveValidationMatcher(controlKey,
-                            receivedValue.toString(),
-                            controlValue.toString(), context);
-                } else if (controlValue instanceof JSONObject) {
-                    Assert.isTrue(receivedValue instanceof JSONObject,
-                            ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
-                                    JSONObject.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
-
-                    validateJson(controlKey, (JSONObject) receivedValue,
-                            (JSONObject) controlValue, validationContext, context, readContext);
-                } else if (controlValue instanceof JSONArray) {
-                    Assert.isTrue(receivedValue instanceof JSONArray,
-                            ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
-                                    JSONArray.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
-
-                    JSONArray jsonArrayControl = (JSONArray) controlValue;
-                    JSONArray jsonArrayReceived = (JSONArray) receivedValue;
-
-                    if (log.isDebugEnabled()) {
-                        log.debug("Validating JSONArray containing " + jsonArrayControl.size() + " entries");
-                    }
+            validateJsonEntry(controlKey, controlValue, receivedValue, validationContext, context, ignoredPaths, entryPath);
 
-                    if (strict) {
-                        Assert.isTrue(jsonArrayControl.size() == jsonArrayReceived.size(),
-                                ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
-                                        jsonArrayControl.size(), jsonArrayReceived.size()));
+            if (log.isDebugEnabled()) {
+                log.debug("Validation successful for JSON entry '" + controlKey + "' (" + controlValue + ")");
+            }
+        }
+    }
+
+    /**
+     * Validates single JSON entry value with comparison to expected control value.
+     *
+     * @param controlKey the JSON entry key.
+     * @param controlValue the expected control value.
+     * @param receivedValue the received value.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     * @param ignoredPaths the normalized paths of received JSON entries to ignore.
+     * @param path the normalized path of the received value, null if no entries are ignored.
+     */
+    private void validateJsonEntry(String controlKey, Object controlValue, Object receivedValue, JsonMessageValidationContext validationContext, TestContext context, Set<String> ignoredPaths, String path) {
+        if (controlValue == null) {
+            Assert.isTrue(receivedValue == null,
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                            null, receivedValue));
+        } else if (receivedValue != null) {
+            if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
+                ValidationMatcherUtils.resolveValidationMatcher(controlKey,
+                        receivedValue.toString(),
+                        controlValue.toString(), context);
+            } else if (controlValue instanceof JSONObject) {
+                Assert.isTrue(receivedValue instanceof JSONObject,
+                        ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                                JSONObject.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
+
+                validateJson(controlKey, (JSONObject) receivedValue,
+                        (JSONObject) controlValue, validationContext, context, ignoredPaths, path);
+            } else if (controlValue instanceof JSONArray) {
+                Assert.isTrue(receivedValue instanceof JSONArray,
+                        ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                                JSONArray.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
+
+                JSONArray jsonArrayControl = (JSONArray) controlValue;
+                JSONArray jsonArrayReceived = (JSONArray) receivedValue;
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Validating JSONArray containing " + jsonArrayControl.size() + " entries");
+                }
+
+                if (strict) {
+                    Assert.isTrue(jsonArrayControl.size() == jsonArrayReceived.size(),
+                            ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
+                                    jsonArrayControl.size(), jsonArrayReceived.size()));
+                }
+                for (int i = 0; i < jsonArrayControl.size(); i++) {
+                    String elementPath = getChildPath(path, i);
+                    if (elementPath != null && ignoredPaths.contains(elementPath)) {
+                        continue;
                     }
-                    for (int i = 0; i < jsonArrayControl.size(); i++) {
-                        if (jsonArrayControl.get(i).getClass().isAssignableFrom(JSONObject.class)) {
-                            Assert.isTrue(jsonArrayReceived.get(i).getClass().isAssignableFrom(JSONObject.class),
-                                    ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + jsonArrayControl.get(i) + "'",
-                                            JSONObject.class.getName(), jsonArrayReceived.get(i).getClass().getName()));
-
-                            validateJson(controlKey, (JSONObject) jsonArrayReceived.get(i),
-                                    (JSONObject) jsonArrayControl.get(i), validationContext, context, readContext);
-                        } else {
-                            Assert.isTrue(jsonArrayControl.get(i).equals(jsonArrayReceived.get(i)),
-                                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + jsonArrayControl.get(i) + "'",
-                                            jsonArrayControl.get(i), jsonArrayReceived.get(i)));
-                        }
+
+                    if (jsonArrayControl.get(i).getClass().isAssignableFrom(JSONObject.class)) {
+                        Assert.isTrue(jsonArrayReceived.get(i).getClass().isAssignableFrom(JSONObject.class),
+                                ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + jsonArrayControl.get(i) + "'",
+                                        JSONObject.class.getName(), jsonArrayReceived.get(i).getClass().getName()));
+
+                        validateJson(controlKey, (JSONObject) jsonArrayReceived.get(i),
+                                (JSONObject) jsonArrayControl.get(i), validationContext, context, ignoredPaths, elementPath);
+                    } else {
+                        Assert.isTrue(jsonArrayControl.get(i).equals(jsonArrayReceived.get(i)),
+                                ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + jsonArrayControl.get(i) + "'",
+                                        jsonArrayControl.get(i), jsonArrayReceived.get(i)));
                     }
-                } else {
-                    Assert.isTrue(controlValue.equals(receivedValue),
-                            ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
-                                    controlValue, receivedValue));
                 }
-            } else if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
-                ValidationMatcherUtils.resolveValidationMatcher(controlKey,
-                        null,
-                        controlValue.toString(), context);
             } else {
-                Assert.isTrue(!StringUtils.hasText(controlValue.toString()),
-                        ValidationUtils.buildValueMismatchErrorMessage(
-                                "Values not equal for entry '" + controlKey + "'", controlValue.toString(), null));
+                Assert.isTrue(controlValue.equals(receivedValue),
+                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                                controlValue, receivedValue));
             }
+        } else if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
+            ValidationMatcherUtils.resolveValidationMatcher(controlKey,
+                    null,
+                    controlValue.toString(), context);
+        } else {
+            Assert.isTrue(!StringUtils.hasText(controlValue.toString()),
+                    ValidationUtils.buildValueMismatchErrorMessage(
+                            "Values not equal for entry '" + controlKey + "'", controlValue.toString(), null));
+        }
+    }
+
+    /**
+     * Checks if given element node is either in the set of ignored paths or
+     * contains @ignore@ tag inside control message
+     * @param controlKey
+     * @param controlValue
+     * @param path
+     * @param ignoredPaths
+     * @return
+     */
+    private boolean isIgnored(String controlKey, Object controlValue, String path, Set<String> ignoredPaths) {
+        if (isIgnoredByPlaceholder(controlKey, controlValue)) {
+            return true;
+        }
 
+        if (path != null && ignoredPaths.contains(path)) {
             if (log.isDebugEnabled()) {
-                log.debug("Validation successful for JSON entry '" + controlKey + "' (" + controlValue + ")");
+                log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
             }
+            return true;
         }
+
+        return false;
     }
 
     /**
-     * Checks if given element node is either on ignore list or
-     * contains @ignore@ tag inside control message
+     * Checks if control value is the ignore placeholder.
      * @param controlKey
      * @param controlValue
-     * @param receivedJson
-     * @param ignoreExpressions
-     * @param readContext
      * @return
      */
-    public boolean isIgnored(String controlKey, Object controlValue, Object receivedJson, Set<String> ignoreExpressions, ReadContext readContext) {
+    private boolean isIgnoredByPlaceholder(String controlKey, Object controlValue) {
         if (controlValue != null && controlValue.toString().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
             if (log.isDebugEnabled()) {
                 log.debug("JSON entry: '" + controlKey + "' is ignored by placeholder '" +
@@ -272,25 +350,230 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             return true;
         }
 
+        return false;
+    }
+
+    /**
+     * Evaluates all JSONPath ignore expressions once on the received JSON object tree. Returns the normalized paths
+     * of all matching JSON entries, such as <code>$['foo']['bar'][0]</code>. Definite expressions that do not match
+     * any entry raise a path not found error, indefinite expressions may match no entries at all.
+     * @param ignoreExpressions
+     * @param readContext
+     * @return
+     */
+    private Set<String> resolveIgnoredPaths(Set<String> ignoreExpressions, ReadContext readContext) {
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return Collections.emptySet();
+        }
+
+        ReadContext pathContext = JsonPath.using(Configuration.builder().options(Option.AS_PATH_LIST).build())
+                .parse((Object) readContext.json());
+
+        Set<String> ignoredPaths = new HashSet<>();
         for (String jsonPathExpression : ignoreExpressions) {
-            Object foundEntry = readContext.read(jsonPathExpression);
+            List<String> foundPaths;
+            try {
+                foundPaths = pathContext.read(jsonPathExpression);
+            } catch (PathNotFoundException e) {
+                foundPaths = Collections.emptyList();
+            }
 
-            if (foundEntry instanceof JSONArray && ((JSONArray) foundEntry).contains(receivedJson)) {
-                if (log.isDebugEnabled()) {
-                    log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
-                }
-                return true;
+            if (foundPaths.isEmpty() && JsonPath.compile(jsonPathExpression).isDefinite()) {
+                throw new PathNotFoundException("No results for path: " + jsonPathExpression);
             }
 
-            if (foundEntry != null && foundEntry.equals(receivedJson)) {
-                if (log.isDebugEnabled()) {
-                    log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
-                }
-                return true;
+            ignoredPaths.addAll(foundPaths);
+        }
+
+        return ignoredPaths;
+    }
+
+    /**
+     * Gets normalized path of child entry with given key.
+     * @param path the parent path, null if paths are not tracked.
+     * @param key
+     * @return
+     */
+    private static String getChildPath(String path, String key) {
+        return path != null ? path + "['" + key + "']" : null;
+    }
+
+    /**
+     * Gets normalized path of array element with given index.
+     * @param path the array path, null if paths are not tracked.
+     * @param index
+     * @return
+     */
+    private static String getChildPath(String path, int index) {
+        return path != null ? path + "[" + index + "]" : null;
+    }
+
+    /**
+     * Validates received JSON text as stream with comparison to expected control JSON. Received JSON objects and arrays
+     * are read token by token, only values that are not streamable are read to JSON objects.
+     *
+     * @param receivedJsonText the received JSON text.
+     * @param controlJson the expected control JSON.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     * @throws IOException
+     * @throws ParseException
+     */
+    private void validateJsonStream(String receivedJsonText, Object controlJson, JsonMessageValidationContext validationContext, TestContext context) throws IOException, ParseException {
+        try (JsonParser parser = JSON_FACTORY.createParser(receivedJsonText)) {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                Assert.isTrue(controlJson instanceof JSONObject,
+                        ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON root element",
+                                controlJson.getClass().getSimpleName(), JSONObject.class.getSimpleName()));
+                validateJsonStream("$.", parser, (JSONObject) controlJson, validationContext, context);
+            } else if (token == JsonToken.START_ARRAY) {
+                Assert.isTrue(controlJson instanceof JSONArray,
+                        ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON root element",
+                                controlJson.getClass().getSimpleName(), JSONArray.class.getSimpleName()));
+                validateJsonArrayStream("array", parser, (JSONArray) controlJson, validationContext, context);
+            } else {
+                throw new CitrusRuntimeException("Unsupported json type " + token);
             }
         }
+    }
 
-        return false;
+    /**
+     * Validates JSON object on streaming parser with comparison to expected control JSON object. Parser is
+     * positioned on the start of the object and is positioned on the end of the object after validation.
+     *
+     * @param elementName the current element name that is under verification in this method
+     * @param parser the streaming parser on received JSON text.
+     * @param controlJson the expected control JSON object.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     * @throws IOException
+     * @throws ParseException
+     */
+    private void validateJsonStream(String elementName, JsonParser parser, JSONObject controlJson, JsonMessageValidationContext validationContext, TestContext context) throws IOException, ParseException {
+        int receivedSize = 0;
+        Set<String> receivedKeys = new HashSet<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String controlKey = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            receivedSize++;
+
+            if (!controlJson.containsKey(controlKey)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            receivedKeys.add(controlKey);
+            Object controlValue = controlJson.get(controlKey);
+
+            if (isIgnoredByPlaceholder(controlKey, controlValue)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            if (token == JsonToken.START_OBJECT && controlValue instanceof JSONObject) {
+                validateJsonStream(controlKey, parser, (JSONObject) controlValue, validationContext, context);
+            } else if (token == JsonToken.START_ARRAY && controlValue instanceof JSONArray) {
+                validateJsonArrayStream(controlKey, parser, (JSONArray) controlValue, validationContext, context);
+            } else {
+                validateJsonEntry(controlKey, controlValue, readValue(parser), validationContext, context, Collections.emptySet(), null);
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Validation successful for JSON entry '" + controlKey + "' (" + controlValue + ")");
+            }
+        }
+
+        if (strict) {
+            Assert.isTrue(controlJson.size() == receivedSize,
+                    ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedSize));
+        }
+
+        for (String controlKey : controlJson.keySet()) {
+            Assert.isTrue(receivedKeys.contains(controlKey),
+                    "Missing JSON entry: + '" + controlKey + "'");
+        }
+    }
+
+    /**
+     * Validates JSON array on streaming parser with comparison to expected control JSON array. Array entries are validated
+     * one at a time. Parser is positioned on the start of the array and is positioned on the end of the array after validation.
+     *
+     * @param controlKey the JSON entry key of the array.
+     * @param parser the streaming parser on received JSON text.
+     * @param jsonArrayControl the expected control JSON array.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     * @throws IOException
+     * @throws ParseException
+     */
+    private void validateJsonArrayStream(String controlKey, JsonParser parser, JSONArray jsonArrayControl, JsonMessageValidationContext validationContext, TestContext context) throws IOException, ParseException {
+        if (log.isDebugEnabled()) {
+            log.debug("Validating JSONArray containing " + jsonArrayControl.size() + " entries");
+        }
+
+        int receivedSize = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            int i = receivedSize++;
+
+            if (i >= jsonArrayControl.size()) {
+                parser.skipChildren();
+                continue;
+            }
+
+            Object controlEntry = jsonArrayControl.get(i);
+            if (controlEntry.getClass().isAssignableFrom(JSONObject.class) && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                validateJsonStream(controlKey, parser, (JSONObject) controlEntry, validationContext, context);
+            } else {
+                Object receivedEntry = readValue(parser);
+
+                Assert.isTrue(!controlEntry.getClass().isAssignableFrom(JSONObject.class),
+                        ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + controlEntry + "'",
+                                JSONObject.class.getName(), receivedEntry != null ? receivedEntry.getClass().getName() : null));
+
+                Assert.isTrue(controlEntry.equals(receivedEntry),
+                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlEntry + "'",
+                                controlEntry, receivedEntry));
+            }
+        }
+
+        if (strict || receivedSize < jsonArrayControl.size()) {
+            Assert.isTrue(jsonArrayControl.size() == receivedSize,
+                    ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
+                            jsonArrayControl.size(), receivedSize));
+        }
+    }
+
+    /**
+     * Reads current value on streaming parser. Objects and arrays are read to JSON objects using the same
+     * parser mode as for the complete JSON object tree so values are of same type in both modes.
+     * @param parser
+     * @return
+     * @throws IOException
+     * @throws ParseException
+     */
+    private Object readValue(JsonParser parser) throws IOException, ParseException {
+        switch (parser.getCurrentToken()) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(parser.getText());
+            default:
+                StringWriter writer = new StringWriter();
+                try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+                    generator.copyCurrentStructure(parser);
+                }
+                return new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(writer.toString());
+        }
     }
 
     @Override
@@ -335,6 +618,24 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         return this;
     }
 
+    /**
+     * Set the validator streaming mode.
+     * @param streaming
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Set the validator streaming mode.
+     * @param streaming
+     * @return this object for chaining
+     */
+    public JsonTextMessageValidator streaming(boolean streaming) {
+        setStreaming(streaming);
+        return this;
+    }
+
     void setSchemaRepositories(List<JsonSchemaRepository> schemaRepositories) {
         this.schemaRepositories = schemaRepositories;
     }
@@ -27,20 +27,17 @@ import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import com.consol.citrus.xml.XsdSchemaRepository;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
-import com.consol.citrus.xml.schema.WsdlXsdSchema;
-import com.consol.citrus.xml.schema.XsdSchemaCollection;
+import com.consol.citrus.xml.schema.XmlValidatorCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.*;
 import org.springframework.util.xml.DomUtils;
 import org.springframework.xml.validation.XmlValidator;
-import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.*;
 import org.w3c.dom.ls.LSException;
@@ -48,12 +45,7 @@ import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
 import javax.xml.XMLConstants;
-import javax.xml.namespace.NamespaceContext;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
@@ -78,8 +70,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     /** Root application context this validator is defined in */
     private ApplicationContext applicationContext;
 
-    /** Transformer factory */
-    private TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    /** Cache of compiled schema validators */
+    private XmlValidatorCache validatorCache = new XmlValidatorCache();
 
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
@@ -141,7 +133,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+            Document doc = XMLUtils.parseMessagePayload(receivedMessage);
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -152,7 +144,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             XmlValidator validator = null;
             XsdSchemaRepository schemaRepository = null;
             if (validationContext.getSchema() != null) {
-                validator = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class).createValidator();
+                validator = validatorCache.getValidator(applicationContext.getBean(validationContext.getSchema(), XsdSchema.class));
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = applicationContext.getBean(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -181,30 +173,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                             schemaRepository.getName()));
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }                            
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-                
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                validator = validatorCache.getValidator(schemaRepository);
             }
             
             SAXParseException[] results = validator.validate(new DOMSource(doc));
@@ -247,7 +216,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.parseMessagePayload(receivedMessage);
 
         Map<String, String> foundNamespaces = XMLUtils.lookupNamespaces(receivedMessage.getPayload(String.class));
 
@@ -344,7 +313,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML tree validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = (Document) XMLUtils.parseMessagePayload(receivedMessage).cloneNode(true);
         Document source = XMLUtils.parseMessagePayload(controlMessagePayload);
 
         XMLUtils.stripWhitespaceNodes(received);
@@ -355,8 +324,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             log.debug("Control message:\n" + XMLUtils.serialize(source));
         }
 
-        validateXmlTree(received, source, validationContext, namespaceContextBuilder.buildContext(
-                receivedMessage, validationContext.getNamespaces()), context);
+        validateXmlTree(received, source, validationContext, new IgnoredNodes(received, validationContext.getIgnoreExpressions(),
+                namespaceContextBuilder.buildContext(receivedMessage, validationContext.getNamespaces())), context);
     }
     
     /**
@@ -381,8 +350,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             log.debug("Control header data:\n" + XMLUtils.serialize(source));
         }
 
-        validateXmlTree(received, source, validationContext, 
-                namespaceContextBuilder.buildContext(new DefaultMessage(receivedHeaderData), validationContext.getNamespaces()),
+        validateXmlTree(received, source, validationContext, new IgnoredNodes(received, validationContext.getIgnoreExpressions(),
+                namespaceContextBuilder.buildContext(new DefaultMessage(receivedHeaderData), validationContext.getNamespaces())),
                 context);
     }
 
@@ -392,25 +361,26 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param received
      * @param source
      * @param validationContext
+     * @param ignoredNodes
      */
     private void validateXmlTree(Node received, Node source, 
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+            XmlMessageValidationContext validationContext, IgnoredNodes ignoredNodes, TestContext context) {
         switch(received.getNodeType()) {
             case Node.DOCUMENT_TYPE_NODE:
-                doDocumentTypeDefinition(received, source, validationContext, namespaceContext, context);
+                doDocumentTypeDefinition(received, source, validationContext, ignoredNodes, context);
                 break;
             case Node.DOCUMENT_NODE:
                 validateXmlTree(received.getFirstChild(), source.getFirstChild(),
-                        validationContext, namespaceContext, context);
+                        validationContext, ignoredNodes, context);
                 break;
             case Node.ELEMENT_NODE:
-                doElement(received, source, validationContext, namespaceContext, context);
+                doElement(received, source, validationContext, ignoredNodes, context);
                 break;
             case Node.ATTRIBUTE_NODE:
                 throw new IllegalStateException();
             case Node.COMMENT_NODE:
                 validateXmlTree(received.getNextSibling(), source,
-                        validationContext, namespaceContext, context);
+                        validationContext, ignoredNodes, context);
                 break;
             case Node.PROCESSING_INSTRUCTION_NODE:
                 doPI(received);
@@ -423,11 +393,11 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param received
      * @param source
      * @param validationContext
-     * @param namespaceContext
+     * @param ignoredNodes
      */
     private void doDocumentTypeDefinition(Node received, Node source,
             XmlMessageValidationContext validationContext,
-            NamespaceContext namespaceContext, TestContext context) {
+            IgnoredNodes ignoredNodes, TestContext context) {
 
         Assert.isTrue(source instanceof DocumentType, "Missing document type definition in expected xml fragment");
 
@@ -472,7 +442,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         validateXmlTree(received.getNextSibling(),
-                source.getNextSibling(), validationContext, namespaceContext, context);
+                source.getNextSibling(), validationContext, ignoredNodes, context);
     }
 
     /**
@@ -481,16 +451,17 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param received
      * @param source
      * @param validationContext
+     * @param ignoredNodes
      */
     private void doElement(Node received, Node source,
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+            XmlMessageValidationContext validationContext, IgnoredNodes ignoredNodes, TestContext context) {
 
         doElementNameValidation(received, source);
 
         doElementNamespaceValidation(received, source);
 
         //check if element is ignored either by xpath or by ignore placeholder in source message
-        if (XmlValidationUtils.isElementIgnored(source, received, validationContext.getIgnoreExpressions(), namespaceContext)) {
+        if (XmlValidationUtils.isElementIgnored(source, received, ignoredNodes)) {
             return;
         }
 
@@ -506,7 +477,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                         + received.getLocalName() + "'", countAttributes(sourceAttr), countAttributes(receivedAttr)));
 
         for (int i = 0; i < receivedAttr.getLength(); i++) {
-            doAttribute(received, receivedAttr.item(i), source, validationContext, namespaceContext, context);
+            doAttribute(received, receivedAttr.item(i), source, validationContext, ignoredNodes, context);
         }
 
         //check if validation matcher on element is specified
@@ -530,7 +501,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         for (int i = 0; i < receivedChildElements.size(); i++) {
             this.validateXmlTree(receivedChildElements.get(i), sourceChildElements.get(i),
-                    validationContext, namespaceContext, context);
+                    validationContext, ignoredNodes, context);
         }
 
         if (log.isDebugEnabled()) {
@@ -580,9 +551,10 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param receivedAttribute
      * @param sourceElement
      * @param validationContext
+     * @param ignoredNodes
      */
     private void doAttribute(Node receivedElement, Node receivedAttribute, Node sourceElement,
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+            XmlMessageValidationContext validationContext, IgnoredNodes ignoredNodes, TestContext context) {
         if (receivedAttribute.getNodeName().startsWith(XMLConstants.XMLNS_ATTRIBUTE)) { return; }
 
         String receivedAttributeName = receivedAttribute.getLocalName();
@@ -599,7 +571,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                         + receivedElement.getLocalName() + "', unknown attribute "
                         + receivedAttributeName + " (" + receivedAttribute.getNamespaceURI() + ")");
 
-        if (XmlValidationUtils.isAttributeIgnored(receivedElement, receivedAttribute, sourceAttribute, validationContext.getIgnoreExpressions(), namespaceContext)) {
+        if (XmlValidationUtils.isAttributeIgnored(receivedElement, receivedAttribute, sourceAttribute, ignoredNodes)) {
             return;
         }
 
@@ -756,4 +728,20 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
     }
+
+    /**
+     * Gets the cache of compiled schema validators.
+     * @return
+     */
+    public XmlValidatorCache getValidatorCache() {
+        return validatorCache;
+    }
+
+    /**
+     * Sets the cache of compiled schema validators.
+     * @param validatorCache
+     */
+    public void setValidatorCache(XmlValidatorCache validatorCache) {
+        this.validatorCache = validatorCache;
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.xml.xpath.XPathUtils;
+import org.springframework.util.CollectionUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.namespace.NamespaceContext;
+import java.util.*;
+
+/**
+ * Ignore expressions resolved once on a received document. Path name and XPath ignore expressions are evaluated once
+ * to identity sets of ignored nodes so checking a single element or attribute does not need to evaluate the
+ * expressions on the whole document again.
+ *
+ * Resolution is lazy and takes place when the first node is checked.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class IgnoredNodes {
+
+    /** Received document */
+    private final Document document;
+
+    /** Ignore expressions */
+    private final Set<String> ignoreExpressions;
+
+    /** Namespace context for XPath expressions */
+    private final NamespaceContext namespaceContext;
+
+    /** Nodes found by path name expressions */
+    private Set<Node> nodesByName;
+
+    /** All nodes found by XPath expressions */
+    private Set<Node> nodesByXPath;
+
+    /** First node found by XPath expression mapped to expression index */
+    private Map<Node, Integer> firstNodesByXPath;
+
+    /** XPath expressions in evaluation order */
+    private List<String> xpathExpressions;
+
+    /** Index of first XPath expression without result, negative if all expressions have a result */
+    private int firstUnmatchedXPath = -1;
+
+    /**
+     * Default constructor using received document, ignore expressions and namespace context.
+     * @param document
+     * @param ignoreExpressions
+     * @param namespaceContext
+     */
+    public IgnoredNodes(Document document, Set<String> ignoreExpressions, NamespaceContext namespaceContext) {
+        this.document = document;
+        this.ignoreExpressions = ignoreExpressions;
+        this.namespaceContext = namespaceContext;
+    }
+
+    /**
+     * Checks whether the element node is ignored by node path expression or xpath expression.
+     * @param received
+     * @return
+     */
+    public boolean isElementIgnored(Node received) {
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return false;
+        }
+
+        if (ignoreExpressions.contains(XMLUtils.getNodesPathName(received))) {
+            return true;
+        }
+
+        resolve();
+        return nodesByName.contains(received) || nodesByXPath.contains(received);
+    }
+
+    /**
+     * Checks whether the attribute is ignored by node path expression or xpath expression. As with single node
+     * evaluation only the first node found by a XPath expression is ignored and XPath expressions without any result
+     * raise errors.
+     * @param receivedElement
+     * @param receivedAttribute
+     * @return
+     */
+    public boolean isAttributeIgnored(Node receivedElement, Node receivedAttribute) {
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return false;
+        }
+
+        if (ignoreExpressions.contains(XMLUtils.getNodesPathName(receivedElement) + "." + receivedAttribute.getNodeName())) {
+            return true;
+        }
+
+        resolve();
+        if (nodesByName.contains(receivedAttribute)) {
+            return true;
+        }
+
+        Integer index = firstNodesByXPath.get(receivedAttribute);
+        if (index != null && (firstUnmatchedXPath < 0 || index < firstUnmatchedXPath)) {
+            return true;
+        }
+
+        if (firstUnmatchedXPath >= 0) {
+            throw new CitrusRuntimeException("No result for XPath expression: '" + xpathExpressions.get(firstUnmatchedXPath) + "'");
+        }
+
+        return false;
+    }
+
+    /**
+     * Evaluates all ignore expressions on the received document.
+     */
+    private void resolve() {
+        if (nodesByName != null) {
+            return;
+        }
+
+        Set<Node> byName = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Node> byXPath = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Node, Integer> firstByXPath = new IdentityHashMap<>();
+        List<String> expressions = new ArrayList<>();
+
+        for (String expression : ignoreExpressions) {
+            Node found = XMLUtils.findNodeByName(document, expression);
+            if (found != null) {
+                byName.add(found);
+            }
+        }
+
+        for (String expression : ignoreExpressions) {
+            if (XPathUtils.isXPathExpression(expression)) {
+                NodeList foundNodes = XPathUtils.evaluateAsNodeList(document, expression, namespaceContext);
+
+                for (int i = 0; i < foundNodes.getLength(); i++) {
+                    if (foundNodes.item(i) != null) {
+                        byXPath.add(foundNodes.item(i));
+                    }
+                }
+
+                if (foundNodes.getLength() > 0) {
+                    firstByXPath.putIfAbsent(foundNodes.item(0), expressions.size());
+                } else if (firstUnmatchedXPath < 0) {
+                    firstUnmatchedXPath = expressions.size();
+                }
+
+                expressions.add(expression);
+            }
+        }
+
+        nodesByXPath = byXPath;
+        firstNodesByXPath = firstByXPath;
+        xpathExpressions = expressions;
+        nodesByName = byName;
+    }
+}
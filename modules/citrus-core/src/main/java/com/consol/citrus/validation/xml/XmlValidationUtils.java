@@ -55,7 +55,32 @@ public abstract class XmlValidationUtils {
      * @return
      */
     public static boolean isElementIgnored(Node source, Node received, Set<String> ignoreExpressions, NamespaceContext namespaceContext) {
-        if (isElementIgnored(received, ignoreExpressions, namespaceContext)) {
+        return isElementIgnored(source, received, isElementIgnored(received, ignoreExpressions, namespaceContext));
+    }
+
+    /**
+     * Checks if given element node is either on ignore list or
+     * contains @ignore@ tag inside control message. Ignore list is given as ignored nodes
+     * resolved once on the received document.
+     * @param source
+     * @param received
+     * @param ignoredNodes
+     * @return
+     */
+    public static boolean isElementIgnored(Node source, Node received, IgnoredNodes ignoredNodes) {
+        return isElementIgnored(source, received, ignoredNodes.isElementIgnored(received));
+    }
+
+    /**
+     * Checks if given element node is either on ignore list or
+     * contains @ignore@ tag inside control message.
+     * @param source
+     * @param received
+     * @param onIgnoreList
+     * @return
+     */
+    private static boolean isElementIgnored(Node source, Node received, boolean onIgnoreList) {
+        if (onIgnoreList) {
             if (log.isDebugEnabled()) {
                 log.debug("Element: '" + received.getLocalName() + "' is on ignore list - skipped validation");
             }
@@ -140,7 +165,35 @@ public abstract class XmlValidationUtils {
      */
     public static boolean isAttributeIgnored(Node receivedElement, Node receivedAttribute, Node sourceAttribute,
                                              Set<String> ignoreMessageElements, NamespaceContext namespaceContext) {
-        if (isAttributeIgnored(receivedElement, receivedAttribute, ignoreMessageElements, namespaceContext)) {
+        return isAttributeIgnored(receivedAttribute, sourceAttribute,
+                isAttributeIgnored(receivedElement, receivedAttribute, ignoreMessageElements, namespaceContext));
+    }
+
+    /**
+     * Checks whether the current attribute is ignored either by global ignore placeholder in source attribute value or
+     * by ignored nodes resolved once on the received document.
+     *
+     * @param receivedElement
+     * @param receivedAttribute
+     * @param sourceAttribute
+     * @param ignoredNodes
+     * @return
+     */
+    public static boolean isAttributeIgnored(Node receivedElement, Node receivedAttribute, Node sourceAttribute,
+                                             IgnoredNodes ignoredNodes) {
+        return isAttributeIgnored(receivedAttribute, sourceAttribute,
+                ignoredNodes.isAttributeIgnored(receivedElement, receivedAttribute));
+    }
+
+    /**
+     * Checks whether the current attribute is ignored either by ignore list or by global ignore placeholder in source attribute value.
+     * @param receivedAttribute
+     * @param sourceAttribute
+     * @param onIgnoreList
+     * @return
+     */
+    private static boolean isAttributeIgnored(Node receivedAttribute, Node sourceAttribute, boolean onIgnoreList) {
+        if (onIgnoreList) {
             if (log.isDebugEnabled()) {
                 log.debug("Attribute '" + receivedAttribute.getLocalName() + "' is on ignore list - skipped value validation");
             }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.NoSuchVariableException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precompiled representation of a string containing variable expressions. Template string is parsed once into
+ * literal ranges and variable references. Rendering the template then only needs to resolve the variable values
+ * and append everything to a single string builder. Compiled templates are cached by template string so
+ * payload templates that are used over and over again are parsed only once. Very large templates are not cached
+ * in order to keep the cache memory footprint bounded.
+ *
+ * Parsing follows exactly the same rules as {@link VariableUtils#replaceVariablesInString(String, TestContext, boolean)}
+ * always did.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class VariableTemplate {
+
+    /** Maximum number of compiled templates in cache */
+    private static final int CACHE_SIZE = 500;
+
+    /** Maximum length of template strings that get cached */
+    private static final int MAX_CACHED_TEMPLATE_LENGTH = 8192;
+
+    /** Compiled templates by template string */
+    private static final Map<String, VariableTemplate> cache = new ConcurrentHashMap<>(CACHE_SIZE);
+
+    /** Template string */
+    private final String template;
+
+    /** Start and end index of literal text preceding each variable reference */
+    private final int[] literalStart;
+    private final int[] literalEnd;
+
+    /** Variable names in order of appearance */
+    private final String[] variableNames;
+
+    /** Start index of trailing literal text */
+    private final int tailStart;
+
+    /**
+     * Private constructor used by compile method.
+     * @param template
+     * @param literalStart
+     * @param literalEnd
+     * @param variableNames
+     * @param tailStart
+     */
+    private VariableTemplate(String template, int[] literalStart, int[] literalEnd, String[] variableNames, int tailStart) {
+        this.template = template;
+        this.literalStart = literalStart;
+        this.literalEnd = literalEnd;
+        this.variableNames = variableNames;
+        this.tailStart = tailStart;
+    }
+
+    /**
+     * Gets compiled template for given string. Uses cached template if available.
+     * @param template
+     * @return
+     */
+    public static VariableTemplate compile(String template) {
+        if (template.length() > MAX_CACHED_TEMPLATE_LENGTH) {
+            return parse(template);
+        }
+
+        VariableTemplate compiled = cache.get(template);
+
+        if (compiled == null) {
+            compiled = parse(template);
+
+            if (cache.size() >= CACHE_SIZE) {
+                cache.clear();
+            }
+
+            cache.put(template, compiled);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Parses template string into literal ranges and variable names.
+     * @param str
+     * @return
+     */
+    private static VariableTemplate parse(String str) {
+        List<Integer> starts = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        int startIndex = 0;
+        int curIndex;
+        int searchIndex;
+
+        while ((searchIndex = str.indexOf(Citrus.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            boolean isVarComplete = false;
+            int nameStart = searchIndex + Citrus.VARIABLE_PREFIX.length();
+            int nameEnd = nameStart;
+
+            curIndex = nameStart;
+
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.startsWith(Citrus.VARIABLE_PREFIX, curIndex)) {
+                    control++;
+                }
+
+                if ((!Character.isJavaIdentifierPart(str.charAt(curIndex)) && (str.charAt(curIndex) == Citrus.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == str.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    nameEnd = curIndex + 1;
+                }
+                ++curIndex;
+            }
+
+            starts.add(startIndex);
+            ends.add(searchIndex);
+            names.add(str.substring(nameStart, nameEnd));
+
+            startIndex = curIndex;
+        }
+
+        int[] literalStart = new int[starts.size()];
+        int[] literalEnd = new int[ends.size()];
+        for (int i = 0; i < literalStart.length; i++) {
+            literalStart[i] = starts.get(i);
+            literalEnd[i] = ends.get(i);
+        }
+
+        return new VariableTemplate(str, literalStart, literalEnd, names.toArray(new String[names.size()]), startIndex);
+    }
+
+    /**
+     * Renders template with variable values from given test context. Variable values are enclosed with quotes
+     * if enabled.
+     * @param context
+     * @param enableQuoting
+     * @return
+     */
+    public String render(TestContext context, boolean enableQuoting) {
+        if (variableNames.length == 0) {
+            return template;
+        }
+
+        StringBuilder result = new StringBuilder(template.length() + 16 * variableNames.length);
+        for (int i = 0; i < variableNames.length; i++) {
+            final String value = context.getVariable(variableNames[i]);
+            if (value == null) {
+                throw new NoSuchVariableException("Variable: " + variableNames[i] + " could not be found");
+            }
+
+            result.append(template, literalStart[i], literalEnd[i]);
+
+            if (enableQuoting) {
+                result.append('\'').append(value).append('\'');
+            } else {
+                result.append(value);
+            }
+        }
+
+        result.append(template, tailStart, template.length());
+
+        return result.toString();
+    }
+
+    /**
+     * Gets the variable names referenced in this template in order of appearance.
+     * @return
+     */
+    public List<String> getVariableNames() {
+        return Collections.unmodifiableList(Arrays.asList(variableNames));
+    }
+}
@@ -19,10 +19,10 @@ package com.consol.citrus.variable;
 import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.exceptions.NoSuchVariableException;
+import com.consol.citrus.script.ScriptEngineCache;
 import org.springframework.util.StringUtils;
 
-import javax.script.*;
+import javax.script.ScriptException;
 
 /**
  * Utility class manipulating test variables.
@@ -38,7 +38,8 @@ public final class VariableUtils {
     }
     
     /**
-     * Evaluates script code and returns a variable value as result.
+     * Evaluates script code and returns a variable value as result. Script engines and compiled scripts are
+     * cached and reused for subsequent evaluations.
      *
      * @param scriptEngine the name of the scripting engine.
      * @param code the script code.
@@ -46,13 +47,7 @@ public final class VariableUtils {
      */
     public static String getValueFromScript(String scriptEngine, String code) {
         try {
-            ScriptEngine engine = new ScriptEngineManager().getEngineByName(scriptEngine);
-            
-            if (engine == null) {
-                throw new CitrusRuntimeException("Unable to find script engine with name '" + scriptEngine + "'");
-            }
-            
-            return engine.eval(code).toString();
+            return ScriptEngineCache.eval(scriptEngine, code).toString();
         } catch (ScriptException e) {
             throw new CitrusRuntimeException("Failed to evaluate " + scriptEngine + " script", e);
         }
@@ -130,7 +125,8 @@ public final class VariableUtils {
    /**
     * Replace all variable expression in a string with
     * its respective value. Variable values are enclosed with quotes
-    * if enabled.
+    * if enabled. String is compiled to a cached variable template so
+    * subsequent calls with the same string do not need to parse the string again.
     * 
     * @param str
     * @param context
@@ -138,61 +134,10 @@ public final class VariableUtils {
     * @return
     */
    public static String replaceVariablesInString(final String str, TestContext context, boolean enableQuoting) {
-       StringBuffer newStr = new StringBuffer();
-
-       boolean isVarComplete;
-       StringBuffer variableNameBuf = new StringBuffer();
-
-       int startIndex = 0;
-       int curIndex;
-       int searchIndex;
-
-       while ((searchIndex = str.indexOf(Citrus.VARIABLE_PREFIX, startIndex)) != -1) {
-           int control = 0;
-           isVarComplete = false;
-
-           curIndex = searchIndex + Citrus.VARIABLE_PREFIX.length();
-
-           while (curIndex < str.length() && !isVarComplete) {
-               if (str.indexOf(Citrus.VARIABLE_PREFIX, curIndex) == curIndex) {
-                   control++;
-               }
-
-               if ((!Character.isJavaIdentifierPart(str.charAt(curIndex)) && (str.charAt(curIndex) == Citrus.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == str.length())) {
-                   if (control == 0) {
-                       isVarComplete = true;
-                   } else {
-                       control--;
-                   }
-               }
-
-               if (!isVarComplete) {
-                   variableNameBuf.append(str.charAt(curIndex));
-               }
-               ++curIndex;
-           }
-
-           final String value = context.getVariable(variableNameBuf.toString());
-           if (value == null) {
-               throw new NoSuchVariableException("Variable: " + variableNameBuf.toString() + " could not be found");
-           }
-
-           newStr.append(str.substring(startIndex, searchIndex));
-
-           if (enableQuoting) {
-               newStr.append("'" + value + "'");
-           } else {
-               newStr.append(value);
-           }
-
-           startIndex = curIndex;
-
-           variableNameBuf = new StringBuffer();
-           isVarComplete = false;
+       if (!str.contains(Citrus.VARIABLE_PREFIX)) {
+           return str;
        }
 
-       newStr.append(str.substring(startIndex));
-
-       return newStr.toString();
+       return VariableTemplate.compile(str).render(context, enableQuoting);
    }
 }
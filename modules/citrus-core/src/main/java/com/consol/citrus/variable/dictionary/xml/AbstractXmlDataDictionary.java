@@ -54,7 +54,7 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
 
         LSSerializer serializer = XMLUtils.createLSSerializer();
 
-        serializer.setFilter(new TranslateFilter(context));
+        serializer.setFilter(createTranslateFilter(doc, context));
 
         LSOutput output = XMLUtils.createLSOutput();
         String charset = XMLUtils.getTargetCharset(doc).displayName();
@@ -69,16 +69,38 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
         return message;
     }
 
+    /**
+     * Creates serializer filter that translates elements and attributes of given document. Subclasses may
+     * prepare document specific translation state here.
+     * @param doc
+     * @param context
+     * @return
+     */
+    protected LSSerializerFilter createTranslateFilter(Document doc, TestContext context) {
+        return new TranslateFilter(context);
+    }
+
     /**
      * Serializer filter uses data dictionary translation on elements and attributes.
      */
-    private class TranslateFilter implements LSSerializerFilter {
+    protected class TranslateFilter implements LSSerializerFilter {
         private TestContext context;
 
         public TranslateFilter(TestContext context) {
             this.context = context;
         }
 
+        /**
+         * Translates value of given node.
+         * @param node
+         * @param value
+         * @param context
+         * @return
+         */
+        protected <T> T translateNode(Node node, T value, TestContext context) {
+            return translate(node, value, context);
+        }
+
         @Override
         public int getWhatToShow() {
             return NodeFilter.SHOW_ALL;
@@ -90,9 +112,9 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
                 Element element = (Element) node;
 
                 if (StringUtils.hasText(DomUtils.getTextValue(element))) {
-                    element.setTextContent(translate(element, DomUtils.getTextValue(element), context));
+                    element.setTextContent(translateNode(element, DomUtils.getTextValue(element), context));
                 } else if (!element.hasChildNodes()) {
-                    String translated = translate(element, "", context);
+                    String translated = translateNode(element, "", context);
                     if (StringUtils.hasText(translated)) {
                         element.appendChild(element.getOwnerDocument().createTextNode(translated));
                     }
@@ -101,7 +123,7 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
                 NamedNodeMap attributes = element.getAttributes();
                 for (int i = 0; i < attributes.getLength(); i++) {
                     Attr attribute = (Attr) attributes.item(i);
-                    attribute.setValue(translate(attribute, attribute.getNodeValue(), context));
+                    attribute.setValue(translateNode(attribute, attribute.getNodeValue(), context));
                 }
             }
 
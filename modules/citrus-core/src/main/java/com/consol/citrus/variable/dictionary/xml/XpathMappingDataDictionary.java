@@ -25,11 +25,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.xml.namespace.SimpleNamespaceContext;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.w3c.dom.ls.LSSerializerFilter;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPathConstants;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
@@ -48,12 +51,17 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(XpathMappingDataDictionary.class);
 
+    /** Evaluate mapping expressions once per document instead of once per translated node */
+    private boolean singlePass = false;
+
     @Override
     public <T> T translate(Node node, T value, TestContext context) {
+        NamespaceContext namespaceContext = buildNamespaceContext(node);
+
         for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
             String expression = expressionEntry.getKey();
 
-            NodeList findings = (NodeList) XPathUtils.evaluateExpression(node.getOwnerDocument(), expression, buildNamespaceContext(node), XPathConstants.NODESET);
+            NodeList findings = (NodeList) XPathUtils.evaluateExpression(node.getOwnerDocument(), expression, namespaceContext, XPathConstants.NODESET);
 
             if (findings != null && containsNode(findings, node)) {
                 if (log.isDebugEnabled()) {
@@ -66,6 +74,52 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
         return value;
     }
 
+    @Override
+    protected LSSerializerFilter createTranslateFilter(Document doc, TestContext context) {
+        if (!singlePass) {
+            return super.createTranslateFilter(doc, context);
+        }
+
+        final Map<Node, String> nodeMappings = evaluateMappings(doc);
+        return new TranslateFilter(context) {
+            @Override
+            protected <T> T translateNode(Node node, T value, TestContext context) {
+                String mappingValue = nodeMappings.get(node);
+                if (mappingValue == null) {
+                    return value;
+                }
+
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Data dictionary setting element '%s' value: %s", XMLUtils.getNodesPathName(node), mappingValue));
+                }
+                return convertIfNecessary(context.replaceDynamicContentInString(mappingValue), value);
+            }
+        };
+    }
+
+    /**
+     * Evaluates all mapping expressions once on given document. Each matching node is mapped to the value of the
+     * first mapping expression that selects the node.
+     * @param doc
+     * @return identity map of nodes to mapping values
+     */
+    private Map<Node, String> evaluateMappings(Document doc) {
+        Map<Node, String> nodeMappings = new IdentityHashMap<>();
+        NamespaceContext namespaceContext = buildNamespaceContext(doc);
+
+        for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
+            NodeList findings = (NodeList) XPathUtils.evaluateExpression(doc, expressionEntry.getKey(), namespaceContext, XPathConstants.NODESET);
+
+            if (findings != null) {
+                for (int i = 0; i < findings.getLength(); i++) {
+                    nodeMappings.putIfAbsent(findings.item(i), expressionEntry.getValue());
+                }
+            }
+        }
+
+        return nodeMappings;
+    }
+
     /**
      * Checks if given node set contains node.
      * @param findings
@@ -90,7 +144,7 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
      */
     private NamespaceContext buildNamespaceContext(Node node) {
         SimpleNamespaceContext simpleNamespaceContext = new SimpleNamespaceContext();
-        Map<String, String> namespaces = XMLUtils.lookupNamespaces(node.getOwnerDocument());
+        Map<String, String> namespaces = XMLUtils.lookupNamespaces(node instanceof Document ? node : node.getOwnerDocument());
 
         // add default namespace mappings
         namespaces.putAll(namespaceContextBuilder.getNamespaceMappings());
@@ -111,6 +165,24 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
         super.afterPropertiesSet();
     }
 
+    /**
+     * Gets the single pass mode.
+     * @return
+     */
+    public boolean isSinglePass() {
+        return singlePass;
+    }
+
+    /**
+     * Enables single pass mode. Mapping expressions are evaluated once per document before translation instead of
+     * once per translated node. All expressions are evaluated on the original document, so expressions do not see
+     * values that have been translated by other mappings.
+     * @param singlePass
+     */
+    public void setSinglePass(boolean singlePass) {
+        this.singlePass = singlePass;
+    }
+
     /**
      * @return
      */
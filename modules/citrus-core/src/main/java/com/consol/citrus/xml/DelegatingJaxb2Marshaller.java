@@ -0,0 +1,218 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.xml;
+
+import org.springframework.core.io.Resource;
+import org.springframework.oxm.XmlMappingException;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.oxm.mime.MimeContainer;
+import org.w3c.dom.ls.LSResourceResolver;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.ValidationEventHandler;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Jaxb2Marshaller that delegates all marshalling operations to a shared marshaller instance obtained from
+ * {@link Jaxb2MarshallerCache}. Subclasses only define the schema and classes to be bound, the JAXB context is created
+ * once and shared by all instances with same settings.
+ *
+ * Instances are immutable. As the shared marshaller is used for all operations, further configuration is not supported and
+ * all configuration setters raise {@link UnsupportedOperationException}. Bean class loader callbacks are ignored.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class DelegatingJaxb2Marshaller extends Jaxb2Marshaller {
+
+    /** Shared marshaller holding the JAXB context and schema */
+    private final Jaxb2Marshaller delegate;
+
+    /**
+     * Constructor using schema and classes to be bound.
+     * @param schema
+     * @param classesToBeBound
+     */
+    public DelegatingJaxb2Marshaller(Resource schema, Class<?>... classesToBeBound) {
+        super.setClassesToBeBound(classesToBeBound);
+        super.setSchema(schema);
+
+        delegate = Jaxb2MarshallerCache.getMarshaller(schema, classesToBeBound);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // initialized on shared marshaller
+    }
+
+    @Override
+    public JAXBContext getJaxbContext() {
+        return delegate.getJaxbContext();
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public boolean supports(Type genericType) {
+        return delegate.supports(genericType);
+    }
+
+    @Override
+    public void marshal(Object graph, Result result, MimeContainer mimeContainer) throws XmlMappingException {
+        delegate.marshal(graph, result, mimeContainer);
+    }
+
+    @Override
+    public Object unmarshal(Source source, MimeContainer mimeContainer) throws XmlMappingException {
+        return delegate.unmarshal(source, mimeContainer);
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        // shared marshaller uses its own class loader
+    }
+
+    @Override
+    public void setContextPaths(String... contextPaths) {
+        throw unsupported("contextPaths");
+    }
+
+    @Override
+    public void setContextPath(String contextPath) {
+        throw unsupported("contextPath");
+    }
+
+    @Override
+    public void setClassesToBeBound(Class<?>... classesToBeBound) {
+        throw unsupported("classesToBeBound");
+    }
+
+    @Override
+    public void setPackagesToScan(String... packagesToScan) {
+        throw unsupported("packagesToScan");
+    }
+
+    @Override
+    public void setJaxbContextProperties(Map<String, ?> jaxbContextProperties) {
+        throw unsupported("jaxbContextProperties");
+    }
+
+    @Override
+    public void setMarshallerProperties(Map<String, ?> properties) {
+        throw unsupported("marshallerProperties");
+    }
+
+    @Override
+    public void setUnmarshallerProperties(Map<String, ?> properties) {
+        throw unsupported("unmarshallerProperties");
+    }
+
+    @Override
+    public void setMarshallerListener(Marshaller.Listener marshallerListener) {
+        throw unsupported("marshallerListener");
+    }
+
+    @Override
+    public void setUnmarshallerListener(Unmarshaller.Listener unmarshallerListener) {
+        throw unsupported("unmarshallerListener");
+    }
+
+    @Override
+    public void setValidationEventHandler(ValidationEventHandler validationEventHandler) {
+        throw unsupported("validationEventHandler");
+    }
+
+    @Override
+    public void setAdapters(XmlAdapter<?, ?>... adapters) {
+        throw unsupported("adapters");
+    }
+
+    @Override
+    public void setSchema(Resource schemaResource) {
+        throw unsupported("schema");
+    }
+
+    @Override
+    public void setSchemas(Resource... schemaResources) {
+        throw unsupported("schemas");
+    }
+
+    @Override
+    public void setSchemaLanguage(String schemaLanguage) {
+        throw unsupported("schemaLanguage");
+    }
+
+    @Override
+    public void setSchemaResourceResolver(LSResourceResolver schemaResourceResolver) {
+        throw unsupported("schemaResourceResolver");
+    }
+
+    @Override
+    public void setLazyInit(boolean lazyInit) {
+        throw unsupported("lazyInit");
+    }
+
+    @Override
+    public void setMtomEnabled(boolean mtomEnabled) {
+        throw unsupported("mtomEnabled");
+    }
+
+    @Override
+    public void setSupportJaxbElementClass(boolean supportJaxbElementClass) {
+        throw unsupported("supportJaxbElementClass");
+    }
+
+    @Override
+    public void setCheckForXmlRootElement(boolean checkForXmlRootElement) {
+        throw unsupported("checkForXmlRootElement");
+    }
+
+    @Override
+    public void setMappedClass(Class<?> mappedClass) {
+        throw unsupported("mappedClass");
+    }
+
+    @Override
+    public void setSupportDtd(boolean supportDtd) {
+        throw unsupported("supportDtd");
+    }
+
+    @Override
+    public void setProcessExternalEntities(boolean processExternalEntities) {
+        throw unsupported("processExternalEntities");
+    }
+
+    /**
+     * Creates exception for unsupported configuration of given property.
+     * @param property
+     * @return
+     */
+    private UnsupportedOperationException unsupported(String property) {
+        return new UnsupportedOperationException(String.format("Unable to set '%s' on %s - marshaller delegates to shared " +
+                "marshaller instance and does not support further configuration", property, getClass().getSimpleName()));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of initialized Jaxb2Marshaller instances. Creating the JAXB context and loading the schema is expensive so
+ * marshallers with same schema and classes to be bound share one instance. Jaxb2Marshaller creates a new marshaller
+ * and unmarshaller on the shared context for each operation so cached instances are thread safe.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class Jaxb2MarshallerCache {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(Jaxb2MarshallerCache.class);
+
+    /** Initialized marshallers by schema and classes to be bound */
+    private static final Map<List<Object>, Jaxb2Marshaller> MARSHALLERS = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private Jaxb2MarshallerCache() {
+        super();
+    }
+
+    /**
+     * Gets initialized marshaller for given schema and classes to be bound. Marshaller is created and initialized on first access.
+     * @param schema
+     * @param classesToBeBound
+     * @return
+     */
+    public static Jaxb2Marshaller getMarshaller(Resource schema, Class<?>... classesToBeBound) {
+        List<Object> key = new ArrayList<>(classesToBeBound.length + 1);
+        key.add(schema);
+        key.addAll(Arrays.asList(classesToBeBound));
+
+        return MARSHALLERS.computeIfAbsent(key, k -> {
+            Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+            marshaller.setClassesToBeBound(classesToBeBound);
+            marshaller.setSchema(schema);
+
+            try {
+                marshaller.afterPropertiesSet();
+            } catch (Exception e) {
+                LOG.warn("Failed to setup message marshaller: " + e.getMessage());
+            }
+
+            return marshaller;
+        });
+    }
+
+    /**
+     * Removes all cached marshallers.
+     */
+    public static void clear() {
+        MARSHALLERS.clear();
+    }
+}
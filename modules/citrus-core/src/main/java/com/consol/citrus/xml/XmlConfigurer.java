@@ -21,7 +21,9 @@ import com.consol.citrus.util.XMLUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.w3c.dom.DOMConfiguration;
 import org.w3c.dom.DOMImplementationList;
+import org.w3c.dom.Document;
 import org.w3c.dom.bootstrap.DOMImplementationRegistry;
 import org.w3c.dom.ls.*;
 
@@ -209,6 +211,28 @@ public class XmlConfigurer implements InitializingBean {
         }
     }
 
+    /**
+     * Normalizes document that has not been created by a configured LSParser instance with this configurers parse settings,
+     * so it matches documents parsed from the same content. Schema validation is not performed on normalization.
+     * @param document
+     */
+    public void normalizeDocument(Document document) {
+        DOMConfiguration domConfig = document.getDomConfig();
+        for (Map.Entry<String, Object> setting : parseSettings.entrySet()) {
+            if (VALIDATE_IF_SCHEMA.equals(setting.getKey())) {
+                continue;
+            }
+
+            if (domConfig.canSetParameter(setting.getKey(), setting.getValue())) {
+                domConfig.setParameter(setting.getKey(), setting.getValue());
+            } else if (log.isDebugEnabled()) {
+                log.debug("Unable to set '" + setting.getKey() + "' parameter on Document normalization");
+            }
+        }
+
+        document.normalizeDocument();
+    }
+
     /**
      * Sets a config parameter on LSParser instance if settable. Otherwise logging unset parameter.
      * @param parser
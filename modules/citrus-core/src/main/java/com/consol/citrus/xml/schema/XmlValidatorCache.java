@@ -0,0 +1,165 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml.schema;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.xml.XsdSchemaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.xml.validation.SchemaLoaderUtils;
+import org.springframework.xml.validation.XmlValidator;
+import org.springframework.xml.xsd.XsdSchema;
+import org.xml.sax.SAXException;
+
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache holds compiled Xml validators for schema repositories and schema instances. Compiling a schema is expensive so
+ * the compiled schema is reused for all subsequent validations with the same schema repository or schema. Cache keeps
+ * track of hit and miss counts.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class XmlValidatorCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(XmlValidatorCache.class);
+
+    /** Compiled validators by schema repository or schema instance */
+    private final Map<Object, XmlValidator> validators = new ConcurrentHashMap<>();
+
+    /** Cache statistics */
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /** Transformer factory */
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+
+    /**
+     * Gets validator for given schema repository. Validator covers all schemas in the repository. On first access
+     * the schemas get compiled and the validator is cached for subsequent calls.
+     * @param schemaRepository
+     * @return
+     */
+    public XmlValidator getValidator(XsdSchemaRepository schemaRepository) {
+        XmlValidator validator = validators.get(schemaRepository);
+        if (validator != null) {
+            hitCount.incrementAndGet();
+            return validator;
+        }
+
+        return validators.computeIfAbsent(schemaRepository, key -> {
+            missCount.incrementAndGet();
+            return createValidator(schemaRepository);
+        });
+    }
+
+    /**
+     * Gets validator for given schema. On first access the schema gets compiled and the validator is cached for subsequent calls.
+     * @param schema
+     * @return
+     */
+    public XmlValidator getValidator(XsdSchema schema) {
+        XmlValidator validator = validators.get(schema);
+        if (validator != null) {
+            hitCount.incrementAndGet();
+            return validator;
+        }
+
+        return validators.computeIfAbsent(schema, key -> {
+            missCount.incrementAndGet();
+            return schema.createValidator();
+        });
+    }
+
+    /**
+     * Compiles all schemas in given repository to a single validator.
+     * @param schemaRepository
+     * @return
+     */
+    private XmlValidator createValidator(XsdSchemaRepository schemaRepository) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Compiling XML schemas in schema repository '%s'", schemaRepository.getName()));
+        }
+
+        List<Resource> schemas = new ArrayList<>();
+        for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
+            if (xsdSchema instanceof XsdSchemaCollection) {
+                schemas.addAll(((XsdSchemaCollection) xsdSchema).getSchemaResources());
+            } else if (xsdSchema instanceof WsdlXsdSchema) {
+                schemas.addAll(((WsdlXsdSchema) xsdSchema).getSchemaResources());
+            } else {
+                synchronized (transformerFactory) {
+                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    try {
+                        transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                    } catch (TransformerException e) {
+                        throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                    }
+                    schemas.add(new ByteArrayResource(bos.toByteArray()));
+                }
+            }
+        }
+
+        try {
+            return new PooledXmlValidator(SchemaLoaderUtils.loadSchema(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI));
+        } catch (IOException | SAXException e) {
+            throw new CitrusRuntimeException(String.format("Failed to compile XML schemas in schema repository '%s'", schemaRepository.getName()), e);
+        }
+    }
+
+    /**
+     * Removes all cached validators. Subsequent validator access compiles the schemas again.
+     */
+    public void clear() {
+        validators.clear();
+    }
+
+    /**
+     * Gets the number of cached validators.
+     * @return
+     */
+    public int size() {
+        return validators.size();
+    }
+
+    /**
+     * Gets the number of validator requests served from the cache.
+     * @return
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of validator requests that needed schema compilation.
+     * @return
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+}
@@ -20,6 +20,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
+import org.springframework.xml.namespace.SimpleNamespaceContext;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -49,6 +50,12 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
+    /** Maximum number of compiled expressions cached per thread */
+    private static final int EXPRESSION_CACHE_SIZE = 500;
+
+    /** XPath factory and compiled expressions are not thread safe so each thread uses its own instances */
+    private static final ThreadLocal<XPathContext> xPathContext = new ThreadLocal<>();
+
     /**
      * Prevent instantiation.
      */
@@ -94,9 +101,9 @@ public abstract class XPathUtils {
         String expressionResult = expression;
         
         for (Entry<String, String> namespaceEntry : namespaces.entrySet()) {
-            if (expressionResult.contains(DYNAMIC_NS_START + namespaceEntry.getValue() + DYNAMIC_NS_END)) {
-                expressionResult = expressionResult.replaceAll("\\" + DYNAMIC_NS_START + namespaceEntry.getValue().replace(".", "\\.") + "\\" + DYNAMIC_NS_END, 
-                        namespaceEntry.getKey() + ":");
+            String dynamicNamespace = DYNAMIC_NS_START + namespaceEntry.getValue() + DYNAMIC_NS_END;
+            if (expressionResult.contains(dynamicNamespace)) {
+                expressionResult = expressionResult.replace(dynamicNamespace, namespaceEntry.getKey() + ":");
             }
         }
         
@@ -260,7 +267,8 @@ public abstract class XPathUtils {
     /**
      * Construct a xPath expression instance with given expression string and namespace context.
      * If namespace context is not specified a default context is built from the XML node
-     * that is evaluated against.
+     * that is evaluated against. Compiled expressions are cached per thread with the expression string and
+     * the namespace bindings as key.
      * @param xPathExpression
      * @param nsContext
      * @return
@@ -268,8 +276,32 @@ public abstract class XPathUtils {
      */
     private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
             throws XPathExpressionException {
-        XPath xpath = createXPathFactory().newXPath();
-        
+        ExpressionKey key = ExpressionKey.of(xPathExpression, nsContext);
+        if (key == null) {
+            return compileExpression(xPathExpression, nsContext);
+        }
+
+        Map<ExpressionKey, XPathExpression> cache = getXPathContext().expressions;
+        XPathExpression expression = cache.get(key);
+        if (expression == null) {
+            expression = compileExpression(xPathExpression, nsContext);
+            cache.put(key, expression);
+        }
+
+        return expression;
+    }
+
+    /**
+     * Compiles xPath expression with given namespace context.
+     * @param xPathExpression
+     * @param nsContext
+     * @return
+     * @throws XPathExpressionException
+     */
+    private static XPathExpression compileExpression(String xPathExpression, NamespaceContext nsContext)
+            throws XPathExpressionException {
+        XPath xpath = getXPathContext().factory.newXPath();
+
         if (nsContext != null) {
             xpath.setNamespaceContext(nsContext);
         }
@@ -303,11 +335,53 @@ public abstract class XPathUtils {
         }
     }
 
+    /**
+     * Gets xpath factory and compiled expressions of current thread. Factory is created again as soon as the
+     * xpath factory system properties change so compiled expressions of previous factory are discarded, too.
+     * @return
+     */
+    private static XPathContext getXPathContext() {
+        String configuration = getXPathFactoryConfiguration();
+
+        XPathContext context = xPathContext.get();
+        if (context == null || !context.configuration.equals(configuration)) {
+            context = new XPathContext(configuration, createXPathFactory());
+            xPathContext.set(context);
+        }
+
+        return context;
+    }
+
+    /**
+     * Reads all xpath factory system properties as configuration key.
+     * @return
+     */
+    private static String getXPathFactoryConfiguration() {
+        StringBuilder configuration = new StringBuilder();
+
+        for (Map.Entry<Object, Object> prop : System.getProperties().entrySet()) {
+            String key = String.valueOf(prop.getKey());
+            if (key.startsWith(XPathFactory.DEFAULT_PROPERTY_NAME)) {
+                configuration.append(key).append('=').append(prop.getValue()).append(';');
+            }
+        }
+
+        return configuration.toString();
+    }
+
+    /**
+     * Gets the xpath factory used by current thread.
+     * @return
+     */
+    static XPathFactory getXPathFactory() {
+        return getXPathContext().factory;
+    }
+
     /**
      * Creates new xpath factory which is not thread safe per definition.
      * @return
      */
-    private synchronized static XPathFactory createXPathFactory() {
+    private static XPathFactory createXPathFactory() {
         XPathFactory factory = null;
 
         // read system property and see if there is a factory set
@@ -336,4 +410,85 @@ public abstract class XPathUtils {
         return factory;
     }
 
+    /**
+     * Thread bound xpath factory with its compiled expressions and the factory configuration it was created with.
+     */
+    private static class XPathContext {
+        private final String configuration;
+        private final XPathFactory factory;
+        private final Map<ExpressionKey, XPathExpression> expressions = new LinkedHashMap<ExpressionKey, XPathExpression>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ExpressionKey, XPathExpression> eldest) {
+                return size() > EXPRESSION_CACHE_SIZE;
+            }
+        };
+
+        XPathContext(String configuration, XPathFactory factory) {
+            this.configuration = configuration;
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * Cache key for compiled expressions combines expression string and namespace bindings. Namespace prefixes
+     * are resolved when the expression is compiled so the bindings are part of the key.
+     */
+    private static final class ExpressionKey {
+        private final String expression;
+        private final Map<String, String> namespaces;
+
+        private ExpressionKey(String expression, Map<String, String> namespaces) {
+            this.expression = expression;
+            this.namespaces = namespaces;
+        }
+
+        /**
+         * Creates key for expression and namespace context. Returns null in case namespace context bindings can not be
+         * determined so the expression is not cacheable.
+         * @param expression
+         * @param nsContext
+         * @return
+         */
+        static ExpressionKey of(String expression, NamespaceContext nsContext) {
+            if (nsContext == null) {
+                return new ExpressionKey(expression, Collections.emptyMap());
+            }
+
+            Iterator<String> prefixes;
+            if (nsContext instanceof SimpleNamespaceContext) {
+                prefixes = ((SimpleNamespaceContext) nsContext).getBoundPrefixes();
+            } else if (nsContext instanceof org.springframework.util.xml.SimpleNamespaceContext) {
+                prefixes = ((org.springframework.util.xml.SimpleNamespaceContext) nsContext).getBoundPrefixes();
+            } else {
+                return null;
+            }
+
+            Map<String, String> namespaces = new HashMap<>();
+            while (prefixes.hasNext()) {
+                String prefix = prefixes.next();
+                namespaces.put(prefix, nsContext.getNamespaceURI(prefix));
+            }
+
+            return new ExpressionKey(expression, namespaces);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ExpressionKey that = (ExpressionKey) o;
+            return expression.equals(that.expression) && namespaces.equals(that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression, namespaces);
+        }
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus;
+
+import com.consol.citrus.actions.*;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.report.TestResults;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ParallelTestExecutorTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testParallelExecution() {
+        final int testCount = 4;
+        final CountDownLatch started = new CountDownLatch(testCount);
+
+        List<TestCase> testCases = new ArrayList<>();
+        for (int i = 0; i < testCount; i++) {
+            TestCase testCase = new TestCase();
+            testCase.setName("ParallelTest" + i);
+            testCase.getVariableDefinitions().put("testValue", "value" + i);
+            testCase.addTestAction(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    started.countDown();
+                    try {
+                        if (!started.await(5000L, TimeUnit.MILLISECONDS)) {
+                            throw new CitrusRuntimeException("Test cases not running in parallel");
+                        }
+                    } catch (InterruptedException e) {
+                        throw new CitrusRuntimeException(e);
+                    }
+                }
+            });
+            final String expected = "value" + i;
+            testCase.addTestAction(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    Assert.assertEquals(context.getVariable("testValue"), expected);
+                }
+            });
+            testCases.add(testCase);
+        }
+
+        ParallelTestExecutor executor = new ParallelTestExecutor(testContextFactory);
+        executor.setWorkers(testCount);
+        TestResults results = executor.execute(testCases);
+
+        Assert.assertEquals(results.getSize(), testCount);
+        Assert.assertEquals(results.getSuccess(), testCount);
+
+        List<TestResult> resultList = results.asList();
+        for (int i = 0; i < testCount; i++) {
+            Assert.assertEquals(resultList.get(i).getTestName(), "ParallelTest" + i);
+        }
+    }
+
+    @Test
+    public void testFailedTestCase() {
+        TestCase success = new TestCase();
+        success.setName("SuccessTest");
+        success.addTestAction(new EchoAction());
+
+        TestCase failed = new TestCase();
+        failed.setName("FailedTest");
+        failed.addTestAction(new FailAction());
+
+        ParallelTestExecutor executor = new ParallelTestExecutor(testContextFactory);
+        executor.setWorkers(2);
+        TestResults results = executor.execute(Arrays.asList(success, failed));
+
+        Assert.assertEquals(results.getSize(), 2);
+        Assert.assertEquals(results.getSuccess(), 1);
+        Assert.assertEquals(results.getFailed(), 1);
+        Assert.assertTrue(results.asList().get(0).isSuccess());
+        Assert.assertTrue(results.asList().get(1).isFailed());
+        Assert.assertEquals(results.asList().get(1).getCause().getMessage(), "Generated error to interrupt test execution");
+    }
+
+    @Test
+    public void testGlobalVariablesSnapshot() {
+        Map<String, Object> globalVariables = testContextFactory.getGlobalVariables().getVariables();
+        globalVariables.put("globalValue", "initial");
+
+        try {
+            TestCase modifying = new TestCase();
+            modifying.setName("ModifyingTest");
+            modifying.addTestAction(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    context.getGlobalVariables().put("globalValue", "modified");
+                }
+            });
+
+            CountDownLatch modified = new CountDownLatch(1);
+            TestCase reading = new TestCase();
+            reading.setName("ReadingTest");
+            reading.addTestAction(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    try {
+                        modified.await(5000L, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    Assert.assertEquals(context.getGlobalVariables().get("globalValue"), "initial");
+                }
+            });
+
+            modifying.addTestAction(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    modified.countDown();
+                }
+            });
+
+            ParallelTestExecutor executor = new ParallelTestExecutor(testContextFactory);
+            executor.setWorkers(2);
+            TestResults results = executor.execute(Arrays.asList(modifying, reading));
+
+            Assert.assertEquals(results.getSuccess(), 2);
+            Assert.assertEquals(globalVariables.get("globalValue"), "initial");
+        } finally {
+            globalVariables.remove("globalValue");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.channel;
+
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class IndexedMessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testReceiveIndexed() {
+        IndexedMessageSelectingQueueChannel channel = new IndexedMessageSelectingQueueChannel();
+        channel.setIndexedHeaders(Collections.singletonList("correlationId"));
+
+        for (int i = 0; i < 100; i++) {
+            channel.send(MessageBuilder.withPayload("Message" + i).setHeader("correlationId", String.valueOf(i)).build());
+        }
+
+        final AtomicLong evaluated = new AtomicLong();
+        MessageSelector selector = new DispatchingMessageSelector("correlationId = '42'", applicationContext, context) {
+            @Override
+            public boolean accept(Message<?> message) {
+                evaluated.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        Message<?> receivedMessage = channel.receive(selector, 1000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "Message42");
+        Assert.assertEquals(evaluated.get(), 1L);
+        Assert.assertEquals(channel.getQueueSize(), 99);
+
+        Assert.assertNull(channel.receive(new DispatchingMessageSelector("correlationId = '42'", applicationContext, context)));
+    }
+
+    @Test
+    public void testReceiveIndexedInOrder() {
+        IndexedMessageSelectingQueueChannel channel = new IndexedMessageSelectingQueueChannel();
+        channel.setIndexedHeaders(Collections.singletonList("correlationId"));
+
+        channel.send(MessageBuilder.withPayload("First").setHeader("correlationId", "1").setHeader("operation", "foo").build());
+        channel.send(MessageBuilder.withPayload("Second").setHeader("correlationId", "1").setHeader("operation", "bar").build());
+        channel.send(MessageBuilder.withPayload("Third").setHeader("correlationId", "1").setHeader("operation", "bar").build());
+
+        Assert.assertEquals(channel.receive(new DispatchingMessageSelector("correlationId = '1' AND operation = 'bar'", applicationContext, context)).getPayload(), "Second");
+        Assert.assertEquals(channel.receive(new DispatchingMessageSelector("correlationId = '1'", applicationContext, context)).getPayload(), "First");
+        Assert.assertEquals(channel.receive(new DispatchingMessageSelector("correlationId = '1'", applicationContext, context)).getPayload(), "Third");
+        Assert.assertNull(channel.receive(new DispatchingMessageSelector("correlationId = '1'", applicationContext, context)));
+    }
+
+    @Test
+    public void testFallbackToScan() {
+        IndexedMessageSelectingQueueChannel channel = new IndexedMessageSelectingQueueChannel();
+        channel.setIndexedHeaders(Collections.singletonList("correlationId"));
+
+        channel.send(MessageBuilder.withPayload("<FooMessage><text>foo</text></FooMessage>").setHeader("correlationId", "1").build());
+        channel.send(MessageBuilder.withPayload("<FooMessage><text>bar</text></FooMessage>").setHeader("correlationId", "2").build());
+
+        Message<?> receivedMessage = channel.receive(new DispatchingMessageSelector("xpath://FooMessage/text = 'bar'", applicationContext, context));
+        Assert.assertEquals(receivedMessage.getHeaders().get("correlationId"), "2");
+
+        receivedMessage = channel.receive(new DispatchingMessageSelector("correlationId = '@startsWith(1)@'", applicationContext, context));
+        Assert.assertEquals(receivedMessage.getHeaders().get("correlationId"), "1");
+
+        Assert.assertEquals(channel.getQueueSize(), 0);
+    }
+
+    @Test
+    public void testIndexUpdatedOnPlainReceive() {
+        IndexedMessageSelectingQueueChannel channel = new IndexedMessageSelectingQueueChannel();
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("correlationId", "1").build());
+        channel.setIndexedHeaders(Collections.singletonList("correlationId"));
+
+        Assert.assertEquals(channel.receive(0L).getPayload(), "FooMessage");
+
+        channel.send(MessageBuilder.withPayload("BarMessage").setHeader("correlationId", "1").build());
+        Assert.assertEquals(channel.receive(new DispatchingMessageSelector("correlationId = '1'", applicationContext, context)).getPayload(), "BarMessage");
+    }
+}
@@ -24,6 +24,7 @@ import org.springframework.messaging.Message;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -111,4 +112,26 @@ public class MessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testWakeUpOnMessageArrival() throws Exception {
+        final MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.setPollingInterval(5000L);
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foos", "bars").build());
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> channel.send(MessageBuilder.withPayload("BarMessage").setHeader("foo", "bar").build()), 200L, TimeUnit.MILLISECONDS);
+
+            long start = System.currentTimeMillis();
+            Message<?> receivedMessage = channel.receive(new HeaderMatchingMessageSelector("foo", "bar", context), 10000L);
+
+            Assert.assertEquals(receivedMessage.getPayload(), "BarMessage");
+            Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+            Assert.assertEquals(channel.getQueueSize(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
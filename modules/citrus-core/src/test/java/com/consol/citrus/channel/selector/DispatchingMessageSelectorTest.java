@@ -81,6 +81,15 @@ public class DispatchingMessageSelectorTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(messageSelector.accept(declineMessage));
     }
     
+    @Test
+    public void testMatchingHeaderValues() {
+        DispatchingMessageSelector messageSelector = new DispatchingMessageSelector("header:foo = 'bar' AND operation = 'foo' AND id = '@startsWith(1)@' AND xpath://Foo/text = 'foo'", beanFactory, context);
+
+        Assert.assertEquals(messageSelector.getMatchingHeaderValues().size(), 2);
+        Assert.assertEquals(messageSelector.getMatchingHeaderValues().get("foo"), "bar");
+        Assert.assertEquals(messageSelector.getMatchingHeaderValues().get("operation"), "foo");
+    }
+
     @Test
     public void testPayloadMatchingDelegation() {
         DispatchingMessageSelector messageSelector = new DispatchingMessageSelector("foo = 'bar' AND payload = 'FooTest'", beanFactory, context);
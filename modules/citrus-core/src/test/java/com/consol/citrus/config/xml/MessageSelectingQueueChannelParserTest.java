@@ -16,11 +16,13 @@
 
 package com.consol.citrus.config.xml;
 
+import com.consol.citrus.channel.IndexedMessageSelectingQueueChannel;
 import com.consol.citrus.channel.MessageSelectingQueueChannel;
 import com.consol.citrus.testng.AbstractBeanDefinitionParserTest;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Map;
 
 /**
@@ -32,7 +34,7 @@ public class MessageSelectingQueueChannelParserTest extends AbstractBeanDefiniti
     public void testMessageSelectingQueueChannelParser() {
         Map<String, MessageSelectingQueueChannel> channels = beanDefinitionContext.getBeansOfType(MessageSelectingQueueChannel.class);
         
-        Assert.assertEquals(channels.size(), 6);
+        Assert.assertEquals(channels.size(), 7);
         
         // 1st channel
         Assert.assertTrue(channels.containsKey("channel1"));
@@ -55,5 +57,10 @@ public class MessageSelectingQueueChannelParserTest extends AbstractBeanDefiniti
         // 6th chanel with polling interval
         channel = channels.get("channel6");
         Assert.assertEquals(channel.getPollingInterval(), 550);
+
+        // 7th channel with indexed headers
+        channel = channels.get("channel7");
+        Assert.assertEquals(channel.getClass(), IndexedMessageSelectingQueueChannel.class);
+        Assert.assertEquals(((IndexedMessageSelectingQueueChannel) channel).getIndexedHeaders(), Arrays.asList("operation", "correlationId"));
     }
 }
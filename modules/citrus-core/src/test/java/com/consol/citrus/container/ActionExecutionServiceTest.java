@@ -0,0 +1,132 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.container;
+
+import com.consol.citrus.context.TestContext;
+import org.springframework.context.support.StaticApplicationContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ActionExecutionServiceTest {
+
+    @Test
+    public void testSubmit() throws Exception {
+        ActionExecutionService executionService = new ActionExecutionService();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Future<?> task = executionService.submit(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Assert.assertFalse(task.isDone());
+        latch.countDown();
+        task.get(5000L, TimeUnit.MILLISECONDS);
+
+        Assert.assertEquals(executionService.getCompletedTasks(), 1L);
+        Assert.assertEquals(executionService.getActiveTasks(), 0);
+        Assert.assertEquals(executionService.getPendingTasks(), 0L);
+        Assert.assertTrue(executionService.getMaxTaskLatency() >= executionService.getAverageTaskLatency());
+
+        executionService.shutdown();
+    }
+
+    @Test
+    public void testBoundedPool() throws Exception {
+        ActionExecutionService executionService = new ActionExecutionService(1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        Future<?> first = executionService.submit(() -> {
+            started.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Future<?> second = executionService.submit(() -> {});
+
+        Assert.assertTrue(started.await(5000L, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(executionService.getPoolSize(), 1);
+        Assert.assertEquals(executionService.getActiveTasks(), 1);
+        Assert.assertEquals(executionService.getPendingTasks(), 1L);
+
+        latch.countDown();
+        first.get(5000L, TimeUnit.MILLISECONDS);
+        second.get(5000L, TimeUnit.MILLISECONDS);
+
+        Assert.assertEquals(executionService.getCompletedTasks(), 2L);
+        Assert.assertEquals(executionService.getPendingTasks(), 0L);
+
+        executionService.shutdown();
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        ActionExecutionService executionService = new ActionExecutionService();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        executionService.execute(latch::countDown);
+
+        Assert.assertTrue(latch.await(5000L, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(executionService.getPendingTasks(), 0L);
+
+        executionService.shutdown();
+    }
+
+    @Test
+    public void testLookup() {
+        TestContext context = new TestContext();
+        Assert.assertSame(ActionExecutionService.lookup(context), ActionExecutionService.getDefault());
+
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        applicationContext.registerSingleton("actionExecutionService", ActionExecutionService.class);
+        applicationContext.refresh();
+        context.setApplicationContext(applicationContext);
+
+        ActionExecutionService executionService = ActionExecutionService.lookup(context);
+        Assert.assertNotSame(executionService, ActionExecutionService.getDefault());
+        Assert.assertSame(ActionExecutionService.lookup(context), executionService);
+
+        executionService.shutdown();
+        applicationContext.close();
+    }
+
+    @Test(expectedExceptions = ExecutionException.class)
+    public void testTaskError() throws Exception {
+        ActionExecutionService executionService = new ActionExecutionService();
+
+        try {
+            executionService.submit(() -> {
+                throw new IllegalStateException("Failed");
+            }).get(5000L, TimeUnit.MILLISECONDS);
+        } finally {
+            Assert.assertEquals(executionService.getCompletedTasks(), 1L);
+            executionService.shutdown();
+        }
+    }
+}
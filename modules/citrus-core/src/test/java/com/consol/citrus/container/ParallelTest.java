@@ -18,13 +18,17 @@ package com.consol.citrus.container;
 
 import com.consol.citrus.TestAction;
 import com.consol.citrus.actions.*;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ParallelContainerException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -146,4 +150,64 @@ public class ParallelTest extends AbstractTestNGUnitTest {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testMaxConcurrency() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setMaxConcurrency(2);
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger executed = new AtomicInteger();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 10; i++) {
+            actionList.add(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(50L);
+                    } catch (InterruptedException e) {
+                        throw new CitrusRuntimeException(e);
+                    } finally {
+                        running.decrementAndGet();
+                        executed.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertEquals(executed.get(), 10);
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testFailingActionsAggregated() {
+        Parallel parallelAction = new Parallel();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new FailAction());
+        actionList.add(new EchoAction());
+        actionList.add(new FailAction());
+
+        parallelAction.setActions(actionList);
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing parallel container exception");
+        } catch (ParallelContainerException e) {
+            Assert.assertEquals(e.getExceptions().size(), 2);
+            Assert.assertEquals(e.getSuppressed().length, 2);
+            Assert.assertTrue(e.getMessage().contains("Generated error to interrupt test execution"));
+            Assert.assertEquals(parallelAction.getActiveAction().getClass(), FailAction.class);
+        }
+
+        parallelAction.setActions(actionList.subList(1, 2));
+        parallelAction.execute(context);
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.endpoint.adapter;
 
+import com.consol.citrus.TestCase;
 import com.consol.citrus.endpoint.adapter.mapping.XPathPayloadMappingKeyExtractor;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
@@ -110,4 +111,16 @@ public class XmlTestExecutingEndpointAdapterTest extends AbstractTestNGUnitTest
             Assert.assertEquals(e.getMessage(), "Failed to load test case");
         }
     }
+
+    @Test
+    public void testCachedTestCase() throws Exception {
+        TestCase testCase = endpointAdapter.getTestCase(context, "FooTest");
+        TestCase cachedTestCase = endpointAdapter.getTestCase(context, "FooTest");
+
+        Assert.assertEquals(testCase.getName(), "FooTest");
+        Assert.assertEquals(cachedTestCase.getName(), "FooTest");
+        Assert.assertNotSame(cachedTestCase, testCase);
+        Assert.assertEquals(cachedTestCase.getActionCount(), testCase.getActionCount());
+        Assert.assertNotSame(cachedTestCase.getActions().get(0), testCase.getActions().get(0));
+    }
 }
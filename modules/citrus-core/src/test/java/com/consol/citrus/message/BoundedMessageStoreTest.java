@@ -0,0 +1,190 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class BoundedMessageStoreTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(2, 0L, 0L, null);
+
+        messageStore.storeMessage("first", new DefaultMessage("First"));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "First");
+
+        messageStore.storeMessage("third", new DefaultMessage("Third"));
+
+        Assert.assertEquals(messageStore.size(), 2);
+        Assert.assertEquals(messageStore.getEvictions(), 1L);
+        Assert.assertNull(messageStore.getMessage("second"));
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "First");
+        Assert.assertEquals(messageStore.getMessage("third").getPayload(String.class), "Third");
+    }
+
+    @Test
+    public void testEvictOnMaxBytes() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 10L, 0L, null);
+
+        messageStore.storeMessage("first", new DefaultMessage("12345"));
+        messageStore.storeMessage("second", new DefaultMessage("12345"));
+        Assert.assertEquals(messageStore.getStoredBytes(), 10L);
+
+        messageStore.storeMessage("first", new DefaultMessage("123"));
+        Assert.assertEquals(messageStore.getStoredBytes(), 8L);
+        Assert.assertEquals(messageStore.getEvictions(), 0L);
+
+        messageStore.storeMessage("third", new DefaultMessage("12345"));
+        Assert.assertEquals(messageStore.getEvictions(), 1L);
+        Assert.assertNull(messageStore.getMessage("second"));
+        Assert.assertEquals(messageStore.getStoredBytes(), 8L);
+    }
+
+    @Test
+    public void testSpillAndRehydrate() throws IOException {
+        Path spillDirectory = Files.createTempDirectory("citrus-store");
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 0L, 10L, spillDirectory);
+
+        DefaultMessage message = new DefaultMessage("<TestMessage>Large payload</TestMessage>")
+                .setHeader("operation", "foo")
+                .addHeaderData("<Header>foo</Header>");
+        message.setName("largeMessage");
+
+        messageStore.storeMessage("large", message);
+        messageStore.storeMessage("binary", new DefaultMessage("Binary payload".getBytes()));
+        messageStore.storeMessage("small", new DefaultMessage("Small"));
+
+        Assert.assertEquals(messageStore.getSpills(), 2L);
+        Assert.assertEquals(messageStore.getStoredBytes(), 5L);
+        Assert.assertEquals(Files.list(spillDirectory).count(), 2L);
+
+        Message stored = messageStore.getMessage("large");
+        Assert.assertEquals(stored.getPayload(String.class), "<TestMessage>Large payload</TestMessage>");
+        Assert.assertEquals(stored.getHeader("operation"), "foo");
+        Assert.assertEquals(stored.getId(), message.getId());
+        Assert.assertEquals(stored.getHeaderData().get(0), "<Header>foo</Header>");
+        Assert.assertEquals(stored.getName(), "largeMessage");
+        Assert.assertEquals(messageStore.getMessage("binary").getPayload(), "Binary payload".getBytes());
+
+        messageStore.clear();
+        Assert.assertEquals(messageStore.size(), 0);
+        Assert.assertEquals(messageStore.getSpilledBytes(), 0L);
+        Assert.assertEquals(Files.list(spillDirectory).count(), 0L);
+    }
+
+    @Test
+    public void testStringPayloadBytes() {
+        BoundedMessageStore messageStore = new BoundedMessageStore();
+
+        String payload = "Gr\u00FC\u00DFe \u20AC \uD83D\uDE00";
+        messageStore.storeMessage("message", new DefaultMessage(payload));
+
+        Assert.assertEquals(messageStore.getStoredBytes(), payload.getBytes(Charset.forName(Citrus.CITRUS_FILE_ENCODING)).length);
+    }
+
+    @Test
+    public void testClearOnTestFinish() throws IOException {
+        Path spillDirectory = Files.createTempDirectory("citrus-store");
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 0L, 10L, spillDirectory);
+
+        TestContext testContext = createTestContext();
+        testContext.setMessageStore(messageStore);
+
+        TestCase testCase = new TestCase();
+        testCase.setName("SpillingTest");
+        testCase.addTestAction(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                context.getMessageStore().storeMessage("large", new DefaultMessage("<TestMessage>Large payload</TestMessage>"));
+                try {
+                    Assert.assertEquals(Files.list(spillDirectory).count(), 1L);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        });
+
+        testCase.execute(testContext);
+
+        Assert.assertEquals(messageStore.size(), 0);
+        Assert.assertEquals(Files.list(spillDirectory).count(), 0L);
+    }
+
+    @Test
+    public void testSpilledMessageType() throws IOException {
+        Path spillDirectory = Files.createTempDirectory("citrus-store");
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 0L, 10L, spillDirectory);
+
+        messageStore.storeMessage("small", new TypedMessage("Small"));
+        messageStore.storeMessage("large", new TypedMessage("<TestMessage>Large payload</TestMessage>"));
+
+        Assert.assertEquals(messageStore.getMessage("small").getClass(), TypedMessage.class);
+        Assert.assertEquals(messageStore.getMessage("large").getClass(), DefaultMessage.class);
+        Assert.assertEquals(messageStore.getMessage("large").getPayload(String.class), "<TestMessage>Large payload</TestMessage>");
+
+        messageStore.finish();
+    }
+
+    @Test
+    public void testDefaultMessageStoreFinish() {
+        DefaultMessageStore messageStore = new DefaultMessageStore();
+        messageStore.storeMessage("message", new DefaultMessage("Hello"));
+
+        messageStore.finish();
+
+        Assert.assertEquals(messageStore.getMessage("message").getPayload(String.class), "Hello");
+    }
+
+    @Test
+    public void testMessageStoreFactory() {
+        BoundedMessageStore.Factory messageStoreFactory = new BoundedMessageStore.Factory();
+        messageStoreFactory.setMaxMessages(1);
+
+        MessageStoreFactory previous = testContextFactory.getMessageStoreFactory();
+        try {
+            testContextFactory.setMessageStoreFactory(messageStoreFactory);
+            TestContext testContext = testContextFactory.getObject();
+
+            Assert.assertEquals(testContext.getMessageStore().getClass(), BoundedMessageStore.class);
+            Assert.assertNotSame(testContextFactory.getObject().getMessageStore(), testContext.getMessageStore());
+        } finally {
+            testContextFactory.setMessageStoreFactory(previous);
+        }
+    }
+
+    private static class TypedMessage extends DefaultMessage {
+        TypedMessage(Object payload) {
+            super(payload);
+        }
+    }
+}
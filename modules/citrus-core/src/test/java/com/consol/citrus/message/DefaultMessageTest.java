@@ -0,0 +1,84 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.json.JsonPathUtils;
+import com.consol.citrus.util.XMLUtils;
+import com.jayway.jsonpath.ReadContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class DefaultMessageTest {
+
+    @Test
+    public void testParsedPayloadCache() {
+        DefaultMessage message = new DefaultMessage("<root><element>foo</element></root>");
+        AtomicInteger parseCount = new AtomicInteger();
+
+        Document doc = message.getParsedPayload(Document.class, m -> {
+            parseCount.incrementAndGet();
+            return XMLUtils.parseMessagePayload(m.getPayload(String.class));
+        });
+
+        Assert.assertSame(XMLUtils.parseMessagePayload(message), doc);
+        Assert.assertSame(XMLUtils.parseMessagePayload(message), doc);
+        Assert.assertEquals(parseCount.get(), 1);
+
+        message.setPayload("<root><element>bar</element></root>");
+
+        Document updated = XMLUtils.parseMessagePayload(message);
+        Assert.assertNotSame(updated, doc);
+        Assert.assertEquals(updated.getDocumentElement().getTextContent(), "bar");
+    }
+
+    @Test
+    public void testParsedJsonPayloadCache() {
+        DefaultMessage message = new DefaultMessage("{\"element\": \"foo\"}");
+
+        ReadContext readContext = JsonPathUtils.parseMessagePayload(message);
+        Assert.assertSame(JsonPathUtils.parseMessagePayload(message), readContext);
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(readContext, "$.element"), "foo");
+
+        message.setPayload("{\"element\": \"bar\"}");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(JsonPathUtils.parseMessagePayload(message), "$.element"), "bar");
+    }
+
+    @Test
+    public void testNoCacheForNonStringPayload() {
+        DefaultMessage message = new DefaultMessage(new StringBuilder("<root/>"));
+        AtomicInteger parseCount = new AtomicInteger();
+
+        message.getParsedPayload(Document.class, m -> {
+            parseCount.incrementAndGet();
+            return XMLUtils.parseMessagePayload(m.getPayload(String.class));
+        });
+        message.getParsedPayload(Document.class, m -> {
+            parseCount.incrementAndGet();
+            return XMLUtils.parseMessagePayload(m.getPayload(String.class));
+        });
+
+        Assert.assertEquals(parseCount.get(), 2);
+    }
+}
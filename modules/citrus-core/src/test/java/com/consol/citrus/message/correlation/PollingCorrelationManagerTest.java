@@ -17,10 +17,13 @@
 package com.consol.citrus.message.correlation;
 
 import com.consol.citrus.channel.ChannelSyncEndpointConfiguration;
+import com.consol.citrus.context.TestContext;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.*;
+
 import static org.mockito.Mockito.*;
 
 
@@ -83,4 +86,58 @@ public class PollingCorrelationManagerTest {
         Assert.assertNull(correlationManager.find("foo"));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindWakeUpOnStore() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(5000L);
+        pollableEndpointConfiguration.setTimeout(10000L);
+
+        final PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> correlationManager.store("foo", "bar"), 200L, TimeUnit.MILLISECONDS);
+
+            long start = System.currentTimeMillis();
+            Assert.assertEquals(correlationManager.find("foo"), "bar");
+            Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGetCorrelationKeyWakeUpOnSave() throws Exception {
+        final PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(new ChannelSyncEndpointConfiguration(), "Try again");
+        final TestContext context = new TestContext();
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> correlationManager.saveCorrelationKey("correlationKey", "foo", context), 100L, TimeUnit.MILLISECONDS);
+            Assert.assertEquals(correlationManager.getCorrelationKey("correlationKey", context), "foo");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testObjectExpiry() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(100L);
+        pollableEndpointConfiguration.setTimeout(200L);
+
+        PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+        correlationManager.setObjectExpiry(100L);
+
+        correlationManager.store("foo", "bar");
+        correlationManager.store("baz", "qux");
+        Assert.assertEquals(correlationManager.find("baz"), "qux");
+
+        Thread.sleep(200L);
+
+        correlationManager.store("new", "value");
+        Assert.assertNull(correlationManager.find("foo"));
+        Assert.assertEquals(correlationManager.find("new"), "value");
+    }
+}
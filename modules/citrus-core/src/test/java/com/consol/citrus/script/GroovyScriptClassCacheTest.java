@@ -0,0 +1,47 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.script;
+
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class GroovyScriptClassCacheTest {
+
+    @Test
+    public void testGetScriptClass() {
+        long compilations = GroovyScriptClassCache.getCompilations();
+
+        Class<?> scriptClass = GroovyScriptClassCache.getScriptClass("return 'Hello from cached script'");
+        Assert.assertNotNull(scriptClass);
+        Assert.assertSame(GroovyScriptClassCache.getScriptClass("return 'Hello from cached script'"), scriptClass);
+        Assert.assertEquals(GroovyScriptClassCache.getCompilations(), compilations + 1);
+
+        Assert.assertNotSame(GroovyScriptClassCache.getScriptClass("return 'Hello from other script'"), scriptClass);
+        Assert.assertEquals(GroovyScriptClassCache.getCompilations(), compilations + 2);
+    }
+
+    @Test(expectedExceptions = CompilationFailedException.class)
+    public void testCompilationFailed() {
+        GroovyScriptClassCache.getScriptClass("return 'Unclosed string");
+    }
+}
@@ -17,7 +17,9 @@
 package com.consol.citrus.util;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.script.ScriptEngineCache;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.variable.VariableTemplate;
 import com.consol.citrus.variable.VariableUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -43,6 +45,25 @@ public class VariableUtilsTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(result, groovyScriptResult);
     }
 
+    /**
+     * Test for cached script engine and compiled script
+     */
+    @Test
+    public void testCachedScript() {
+        String script = "b = 'cached'";
+        Assert.assertEquals(VariableUtils.getValueFromScript(validScriptEngine, script), "cached");
+
+        long compilations = ScriptEngineCache.getCompilations();
+        long evaluations = ScriptEngineCache.getEvaluations();
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(VariableUtils.getValueFromScript(validScriptEngine, script), "cached");
+        }
+
+        Assert.assertEquals(ScriptEngineCache.getCompilations(), compilations);
+        Assert.assertEquals(ScriptEngineCache.getEvaluations(), evaluations + 10);
+    }
+
     /**
      * Test for correct exception with invalid script
      */
@@ -114,4 +135,54 @@ public class VariableUtilsTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(VariableUtils.cutOffDoubleQuotes("//incomplete"), "//incomplete");
         Assert.assertEquals(VariableUtils.cutOffDoubleQuotes("incomplete//"), "incomplete//");
     }
+
+    @Test
+    public void testReplaceVariablesInString() {
+        context.setVariable("greeting", "Hello");
+        context.setVariable("name", "Citrus");
+
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("no variables", context, false), "no variables");
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("${greeting} ${name}!", context, false), "Hello Citrus!");
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("${greeting} ${name}!", context, true), "'Hello' 'Citrus'!");
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("<text>${greeting}</text>", context, false), "<text>Hello</text>");
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("<text>${greeting}</text>", context, false), "<text>Hello</text>");
+
+        context.setVariable("greeting", "Hi");
+        Assert.assertEquals(VariableUtils.replaceVariablesInString("<text>${greeting}</text>", context, false), "<text>Hi</text>");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testReplaceUnknownVariableInString() {
+        VariableUtils.replaceVariablesInString("Hello ${unknown}!", context, false);
+    }
+
+    @Test
+    public void testVariableTemplate() {
+        VariableTemplate template = VariableTemplate.compile("${a}-${b}-${a}");
+
+        Assert.assertSame(VariableTemplate.compile("${a}-${b}-${a}"), template);
+        Assert.assertEquals(template.getVariableNames().size(), 3L);
+        Assert.assertEquals(template.getVariableNames().get(0), "a");
+        Assert.assertEquals(template.getVariableNames().get(1), "b");
+
+        context.setVariable("a", "1");
+        context.setVariable("b", "2");
+        Assert.assertEquals(template.render(context, false), "1-2-1");
+    }
+
+    @Test
+    public void testLargeVariableTemplateNotCached() {
+        StringBuilder builder = new StringBuilder("${a}");
+        while (builder.length() <= 8192) {
+            builder.append("<element>${a}</element>");
+        }
+
+        String templateString = builder.toString();
+        VariableTemplate template = VariableTemplate.compile(templateString);
+
+        Assert.assertNotSame(VariableTemplate.compile(templateString), template);
+
+        context.setVariable("a", "1");
+        Assert.assertTrue(template.render(context, false).startsWith("1<element>1</element>"));
+    }
 }
@@ -24,6 +24,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.validation.json.report.GraciousProcessingReport;
 import com.consol.citrus.validation.json.schema.JsonSchemaValidation;
+import com.jayway.jsonpath.PathNotFoundException;
 import net.minidev.json.parser.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -333,6 +334,145 @@ public class JsonTextMessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
     }
     
+    @Test
+    public void testJsonValidationIgnoreEntriesByPath() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"id\":\"x123456789x\", \"object\":{\"id\":\"x123456789x\"}}");
+        Message controlMessage = new DefaultMessage("{\"id\":\"wrong\", \"object\":{\"id\":\"?\"}}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.object.id");
+
+        try {
+            validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("expected 'wrong' but was 'x123456789x'"));
+        }
+    }
+
+    @Test
+    public void testJsonValidationIgnoreEntriesByPathSharedValues() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"active\":true, \"count\":1, \"object\":{\"active\":true, \"count\":1}}");
+        Message controlMessage = new DefaultMessage("{\"active\":false, \"count\":1, \"object\":{\"active\":\"?\", \"count\":\"?\"}}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.object.active");
+        validationContext.getIgnoreExpressions().add("$.object.count");
+
+        try {
+            validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("expected 'false' but was 'true'"));
+        }
+    }
+
+    @Test
+    public void testJsonValidationIgnoreEntriesInRootArray() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("[{\"index\":1, \"text\":\"Hello\"}, {\"index\":2, \"text\":\"Hallo\"}, {\"index\":3}]");
+        Message controlMessage = new DefaultMessage("[{\"index\":1, \"text\":\"?\"}, {\"index\":2, \"text\":\"?\"}, {\"index\":4}]");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$..text");
+        validationContext.getIgnoreExpressions().add("$[2]");
+
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test(expectedExceptions = PathNotFoundException.class)
+    public void testJsonValidationIgnoreEntriesMissingPath() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"object\":{\"id\":\"x123456789x\"}}");
+        Message controlMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"object\":{\"id\":\"x123456789x\"}}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.object.missing");
+
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testJsonValidationIgnoreEntriesIndefinitePathNoMatch() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"object\":{\"id\":\"x123456789x\"}}");
+        Message controlMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"object\":{\"id\":\"x123456789x\"}}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$..missing");
+
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testJsonValidationStreaming() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true);
+
+        StringBuilder received = new StringBuilder("{\"text\":\"Hello World!\", \"index\":5, \"person\":{\"name\":\"John\"}, \"greetings\":[");
+        StringBuilder control = new StringBuilder("{\"index\":5, \"text\":\"@ignore@\", \"person\":{\"name\":\"@equalsIgnoreCase('JOHN')@\"}, \"greetings\":[");
+        for (int i = 0; i < 1000; i++) {
+            received.append(i > 0 ? "," : "").append("{\"index\":").append(i).append(", \"tags\":[\"a\", 1.5, true]}");
+            control.append(i > 0 ? "," : "").append("{\"tags\":[\"a\", 1.5, true], \"index\":").append(i).append("}");
+        }
+        received.append("]}");
+        control.append("]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validator.validateMessage(new DefaultMessage(received.toString()), new DefaultMessage(control.toString()), context, validationContext);
+    }
+
+    @Test
+    public void testJsonValidationStreamingRootArray() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true);
+
+        Message receivedMessage = new DefaultMessage("[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]");
+        Message controlMessage = new DefaultMessage("[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testJsonValidationStreamingErrors() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true);
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+
+        try {
+            validator.validateMessage(new DefaultMessage("{\"greetings\":[{\"index\":1}, {\"index\":2}]}"),
+                    new DefaultMessage("{\"greetings\":[{\"index\":1}, {\"index\":3}]}"), context, validationContext);
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("expected '3' but was '2'"));
+        }
+
+        try {
+            validator.validateMessage(new DefaultMessage("{\"greetings\":[1, 2, 3]}"),
+                    new DefaultMessage("{\"greetings\":[1, 2]}"), context, validationContext);
+            Assert.fail("Missing validation exception due to array size mismatch");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("JSONArray size mismatch for JSON entry 'greetings'"));
+        }
+
+        try {
+            validator.validateMessage(new DefaultMessage("{\"text\":\"Hello World!\"}"),
+                    new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}"), context, validationContext);
+            Assert.fail("Missing validation exception due to missing entry");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Number of JSON entries not equal"));
+        }
+
+        validator.strict(false);
+        validator.validateMessage(new DefaultMessage("{\"text\":\"Hello World!\", \"greetings\":[1, 2, 3]}"),
+                new DefaultMessage("{\"greetings\":[1, 2]}"), context, validationContext);
+    }
+
     @Test
     public void testJsonValidationInvalidJsonText() {
         JsonTextMessageValidator validator = new JsonTextMessageValidator();
@@ -66,6 +66,49 @@ public class DomXmlMessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateXMLSchema(message, new XmlMessageValidationContext());
     }
 
+    @Test
+    public void validateXMLSchemaCached() throws Exception {
+        Message message = new DefaultMessage("<message xmlns='http://citrusframework.org/test'>"
+                + "<correlationId>Kx1R123456789</correlationId>"
+                + "<bookingId>Bx1G987654321</bookingId>"
+                + "<test>Hello TestFramework</test>"
+                + "</message>");
+
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        Resource schemaResource = new ClassPathResource("com/consol/citrus/validation/test.xsd");
+        SimpleXsdSchema schema = new SimpleXsdSchema(schemaResource);
+        schema.afterPropertiesSet();
+
+        schemaRepository.getSchemas().add(schema);
+
+        validator.addSchemaRepository(schemaRepository);
+
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+
+        Assert.assertEquals(validator.getValidatorCache().size(), 1);
+        Assert.assertEquals(validator.getValidatorCache().getMissCount(), 1L);
+        Assert.assertEquals(validator.getValidatorCache().getHitCount(), 2L);
+
+        Message invalidMessage = new DefaultMessage("<message xmlns='http://citrusframework.org/test'>"
+                + "<correlationId>Kx1R123456789</correlationId>"
+                + "<wrongElement>Bx1G987654321</wrongElement>"
+                + "<test>Hello TestFramework</test>"
+                + "</message>");
+
+        try {
+            validator.validateXMLSchema(invalidMessage, new XmlMessageValidationContext());
+            Assert.fail("Missing validation exception for invalid message");
+        } catch (ValidationException e) {
+            Assert.assertEquals(validator.getValidatorCache().getHitCount(), 3L);
+        }
+
+        validator.validateXMLSchema(message, new XmlMessageValidationContext());
+    }
+
     @Test
     public void validateXMLSchemaNested() throws Exception {
         Message message = new DefaultMessage("<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\">" +
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.XMLUtils;
+import org.springframework.util.xml.SimpleNamespaceContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.*;
+
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class IgnoredNodesTest {
+
+    private static final String PAYLOAD = "<ns1:root xmlns:ns1='http://citrusframework.org/test'>"
+            + "<ns1:element attributeA='attribute-value' attributeB='attribute-value'>"
+                + "<ns1:sub-element attribute='A'>text-value</ns1:sub-element>"
+                + "<ns1:sub-element attribute='B'>text-value</ns1:sub-element>"
+                + "<ns1:sub-element attribute='C'>text-value</ns1:sub-element>"
+                + "<ns1:other attribute='D'>text-value</ns1:other>"
+            + "</ns1:element>"
+        + "</ns1:root>";
+
+    @Test
+    public void testSameResultAsSingleNodeEvaluation() {
+        Document document = XMLUtils.parseMessagePayload(PAYLOAD);
+        XMLUtils.stripWhitespaceNodes(document);
+
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ns", "http://citrusframework.org/test");
+
+        Set<String> ignoreExpressions = new HashSet<>();
+        ignoreExpressions.add("root.element.other");
+        ignoreExpressions.add("sub-element");
+        ignoreExpressions.add("//ns:sub-element[2]");
+        ignoreExpressions.add("//ns:sub-element/@attribute");
+        ignoreExpressions.add("root.element.attributeB");
+
+        IgnoredNodes ignoredNodes = new IgnoredNodes(document, ignoreExpressions, namespaceContext);
+
+        List<Element> elements = new ArrayList<>();
+        NodeList all = document.getElementsByTagNameNS("*", "*");
+        for (int i = 0; i < all.getLength(); i++) {
+            elements.add((Element) all.item(i));
+        }
+
+        int ignoredElements = 0;
+        int ignoredAttributes = 0;
+        for (Element element : elements) {
+            boolean expected = XmlValidationUtils.isElementIgnored(element, ignoreExpressions, namespaceContext);
+            Assert.assertEquals(ignoredNodes.isElementIgnored(element), expected, "Element " + element.getLocalName());
+            ignoredElements += expected ? 1 : 0;
+
+            NamedNodeMap attributes = element.getAttributes();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Node attribute = attributes.item(i);
+                Node source = attribute.cloneNode(false);
+                boolean expectedAttribute = XmlValidationUtils.isAttributeIgnored(element, attribute, source, ignoreExpressions, namespaceContext);
+                Assert.assertEquals(XmlValidationUtils.isAttributeIgnored(element, attribute, source, ignoredNodes), expectedAttribute,
+                        "Attribute " + attribute.getNodeName());
+                ignoredAttributes += expectedAttribute ? 1 : 0;
+            }
+        }
+
+        Assert.assertEquals(ignoredElements, 3L);
+        Assert.assertEquals(ignoredAttributes, 2L);
+    }
+
+    @Test
+    public void testNoIgnoreExpressions() {
+        Document document = XMLUtils.parseMessagePayload(PAYLOAD);
+        IgnoredNodes ignoredNodes = new IgnoredNodes(document, Collections.emptySet(), new SimpleNamespaceContext());
+
+        Element root = document.getDocumentElement();
+        Assert.assertFalse(ignoredNodes.isElementIgnored(root));
+        Assert.assertFalse(ignoredNodes.isAttributeIgnored(root, root.getAttributes().item(0)));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "No result for XPath expression: '//something-else'")
+    public void testAttributeNoXPathResult() {
+        Document document = XMLUtils.parseMessagePayload(PAYLOAD);
+        IgnoredNodes ignoredNodes = new IgnoredNodes(document, Collections.singleton("//something-else"), new SimpleNamespaceContext());
+
+        Element element = (Element) document.getDocumentElement().getFirstChild();
+        Assert.assertFalse(ignoredNodes.isElementIgnored(element));
+        ignoredNodes.isAttributeIgnored(element, element.getAttributeNode("attributeA"));
+    }
+}
@@ -26,6 +26,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -86,6 +87,59 @@ public class XpathMappingDataDictionaryTest extends AbstractTestNGUnitTest {
                 "</TestMessage>");
     }
 
+    @Test
+    public void testTranslateSinglePass() throws Exception {
+        Message message = new DefaultMessage(payload);
+
+        Map<String, String> mappings = new HashMap<String, String>();
+        mappings.put("//TestMessage/Text", "Hello!");
+        mappings.put("//@name", "bar");
+        mappings.put("//something/else", "not_found");
+
+        XpathMappingDataDictionary dictionary = new XpathMappingDataDictionary();
+        dictionary.setMappings(mappings);
+        dictionary.setSinglePass(true);
+
+        Message intercepted = dictionary.interceptMessage(message, Citrus.DEFAULT_MESSAGE_TYPE, context);
+        Assert.assertEquals(intercepted.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                "   <Text>Hello!</Text>" + System.getProperty("line.separator") +
+                "   <OtherText name=\"bar\">No changes</OtherText>" + System.getProperty("line.separator") +
+                "</TestMessage>");
+    }
+
+    @Test
+    public void testTranslateSinglePassSameResult() throws Exception {
+        StringBuilder payloadBuilder = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><ns1:TestMessage xmlns:ns1=\"http://www.foo.bar\">");
+        for (int i = 0; i < 50; i++) {
+            payloadBuilder.append("<ns1:Item id=\"").append(i).append("\"><ns1:Name>item").append(i).append("</ns1:Name><ns1:Empty/></ns1:Item>");
+        }
+        payloadBuilder.append("</ns1:TestMessage>");
+
+        Map<String, String> mappings = new LinkedHashMap<String, String>();
+        mappings.put("//ns1:Item[6]/ns1:Name", "sixth");
+        mappings.put("//ns1:Item/ns1:Name", "${name}");
+        mappings.put("//ns1:Empty", "filled");
+        mappings.put("//@id", "citrus:concat('id_', 'x')");
+
+        context.setVariable("name", "translated");
+
+        XpathMappingDataDictionary perNode = new XpathMappingDataDictionary();
+        perNode.setMappings(mappings);
+
+        XpathMappingDataDictionary singlePass = new XpathMappingDataDictionary();
+        singlePass.setMappings(mappings);
+        singlePass.setSinglePass(true);
+
+        String expected = perNode.interceptMessage(new DefaultMessage(payloadBuilder.toString()), Citrus.DEFAULT_MESSAGE_TYPE, context).getPayload(String.class);
+        String result = singlePass.interceptMessage(new DefaultMessage(payloadBuilder.toString()), Citrus.DEFAULT_MESSAGE_TYPE, context).getPayload(String.class);
+
+        Assert.assertEquals(result, expected);
+        Assert.assertTrue(result.contains("<ns1:Item id=\"id_x\">"));
+        Assert.assertTrue(result.contains("<ns1:Name>sixth</ns1:Name>"));
+        Assert.assertTrue(result.contains("<ns1:Name>translated</ns1:Name>"));
+        Assert.assertTrue(result.contains("<ns1:Empty>filled</ns1:Empty>"));
+    }
+
     @Test
     public void testTranslateWithNamespaceLookup() throws Exception {
         Message message = new DefaultMessage("<?xml version=\"1.0\" encoding=\"UTF-8\"?><ns1:TestMessage xmlns:ns1=\"http://www.foo.bar\"><ns1:Text>Hello World!</ns1:Text><ns1:OtherText name=\"foo\">No changes</ns1:OtherText></ns1:TestMessage>");
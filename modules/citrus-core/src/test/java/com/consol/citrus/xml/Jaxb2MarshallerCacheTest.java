@@ -0,0 +1,57 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import com.consol.citrus.integration.service.model.HelloRequest;
+import com.consol.citrus.integration.service.model.HelloResponse;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class Jaxb2MarshallerCacheTest {
+
+    @Test
+    public void testSharedMarshaller() {
+        Jaxb2Marshaller marshaller = Jaxb2MarshallerCache.getMarshaller(new ClassPathResource("schemas/HelloService.xsd"),
+                HelloRequest.class, HelloResponse.class);
+
+        Assert.assertSame(Jaxb2MarshallerCache.getMarshaller(new ClassPathResource("schemas/HelloService.xsd"),
+                HelloRequest.class, HelloResponse.class), marshaller);
+        Assert.assertNotSame(Jaxb2MarshallerCache.getMarshaller(new ClassPathResource("schemas/HelloService.xsd"),
+                HelloRequest.class), marshaller);
+        Assert.assertNotNull(marshaller.getJaxbContext());
+
+        HelloRequest request = new HelloRequest();
+        request.setMessageId("1");
+        request.setCorrelationId("2");
+        request.setUser("Christoph");
+        request.setText("Hello");
+
+        StringResult result = new StringResult();
+        marshaller.marshal(request, result);
+
+        HelloRequest unmarshalled = (HelloRequest) marshaller.unmarshal(new StringSource(result.toString()));
+        Assert.assertEquals(unmarshalled.getUser(), "Christoph");
+        Assert.assertEquals(unmarshalled.getText(), "Hello");
+    }
+}
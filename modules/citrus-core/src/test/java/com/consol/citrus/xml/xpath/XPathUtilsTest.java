@@ -24,9 +24,10 @@ import org.w3c.dom.Document;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
-import javax.xml.xpath.XPathFactory;
+import javax.xml.xpath.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Christoph Deppisch
@@ -98,9 +99,98 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/person/@status", namespaceContext), "single");
     }
 
+    @Test
+    public void testEvaluateWithNamespaceBindings() {
+        Document doc = XMLUtils.parseMessagePayload("<root xmlns:foo=\"http://citrusframework.org/foo\" xmlns:bar=\"http://citrusframework.org/bar\">" +
+                    "<foo:element>fooValue</foo:element>" +
+                    "<bar:element>barValue</bar:element>" +
+                "</root>");
+
+        SimpleNamespaceContext fooContext = new SimpleNamespaceContext();
+        fooContext.bindNamespaceUri("ns", "http://citrusframework.org/foo");
+
+        SimpleNamespaceContext barContext = new SimpleNamespaceContext();
+        barContext.bindNamespaceUri("ns", "http://citrusframework.org/bar");
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/root/ns:element", fooContext), "fooValue");
+            Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/root/ns:element", barContext), "barValue");
+        }
+
+        org.springframework.xml.namespace.SimpleNamespaceContext xmlNamespaceContext = new org.springframework.xml.namespace.SimpleNamespaceContext();
+        xmlNamespaceContext.bindNamespaceUri("ns", "http://citrusframework.org/bar");
+        Assert.assertEquals(XPathUtils.evaluateAsString(doc, "/root/ns:element", xmlNamespaceContext), "barValue");
+    }
+
     @Test(priority = 1)
     public void testCustomXPathFactory() {
-        System.setProperty(XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI, "");
+        String property = XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI;
+        CustomXPathFactory.defaultFactoryClass = XPathUtils.getXPathFactory().getClass().getName();
+
+        System.setProperty(property, CustomXPathFactory.class.getName());
+        try {
+            Assert.assertTrue(XPathUtils.getXPathFactory() instanceof CustomXPathFactory);
+
+            int xPathCount = CustomXPathFactory.xPathCount.get();
+            testEvaluate();
+            Assert.assertTrue(CustomXPathFactory.xPathCount.get() > xPathCount);
+        } finally {
+            System.clearProperty(property);
+        }
+
+        Assert.assertFalse(XPathUtils.getXPathFactory() instanceof CustomXPathFactory);
+
+        int xPathCount = CustomXPathFactory.xPathCount.get();
         testEvaluate();
+        Assert.assertEquals(CustomXPathFactory.xPathCount.get(), xPathCount);
+    }
+
+    /**
+     * Custom xpath factory delegates to default factory and counts created xpath instances.
+     */
+    public static class CustomXPathFactory extends XPathFactory {
+        static String defaultFactoryClass;
+        static final AtomicInteger xPathCount = new AtomicInteger();
+
+        private final XPathFactory delegate;
+
+        public CustomXPathFactory() {
+            try {
+                delegate = XPathFactory.newInstance(XPathFactory.DEFAULT_OBJECT_MODEL_URI, defaultFactoryClass, null);
+            } catch (XPathFactoryConfigurationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean isObjectModelSupported(String objectModel) {
+            return delegate.isObjectModelSupported(objectModel);
+        }
+
+        @Override
+        public void setFeature(String name, boolean value) throws XPathFactoryConfigurationException {
+            delegate.setFeature(name, value);
+        }
+
+        @Override
+        public boolean getFeature(String name) throws XPathFactoryConfigurationException {
+            return delegate.getFeature(name);
+        }
+
+        @Override
+        public void setXPathVariableResolver(XPathVariableResolver resolver) {
+            delegate.setXPathVariableResolver(resolver);
+        }
+
+        @Override
+        public void setXPathFunctionResolver(XPathFunctionResolver resolver) {
+            delegate.setXPathFunctionResolver(resolver);
+        }
+
+        @Override
+        public XPath newXPath() {
+            xPathCount.incrementAndGet();
+            return delegate.newXPath();
+        }
     }
 }
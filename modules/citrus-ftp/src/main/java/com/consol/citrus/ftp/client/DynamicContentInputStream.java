@@ -0,0 +1,140 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.ftp.client;
+
+import com.consol.citrus.context.TestContext;
+
+import java.io.*;
+import java.nio.charset.Charset;
+
+/**
+ * Input stream applying test variable and function replacement line by line while reading the underlying
+ * stream. Used for large ASCII file uploads so the file content is never held in memory as a whole. Dynamic content
+ * expressions must not span multiple lines.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+class DynamicContentInputStream extends InputStream {
+
+    /** Underlying character reader */
+    private final Reader reader;
+
+    /** Test context resolving dynamic content */
+    private final TestContext context;
+
+    /** Charset used to encode replaced lines */
+    private final Charset charset;
+
+    /** Reusable line buffer */
+    private final StringBuilder line = new StringBuilder();
+
+    /** Current replaced line and read position */
+    private byte[] buffer = new byte[0];
+    private int position = 0;
+    private boolean endOfStream = false;
+
+    /**
+     * Default constructor using input stream, context and charset.
+     * @param inputStream
+     * @param context
+     * @param charset
+     */
+    DynamicContentInputStream(InputStream inputStream, TestContext context, Charset charset) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, charset));
+        this.context = context;
+        this.charset = charset;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!fill()) {
+            return -1;
+        }
+
+        int count = Math.min(length, buffer.length - position);
+        System.arraycopy(buffer, position, bytes, offset, count);
+        position += count;
+        return count;
+    }
+
+    /**
+     * Reads next line including its line terminator and applies dynamic content replacement.
+     * @return false when underlying stream is exhausted
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        while (position >= buffer.length) {
+            if (endOfStream) {
+                return false;
+            }
+
+            line.setLength(0);
+            int c;
+            while ((c = reader.read()) != -1) {
+                line.append((char) c);
+                if (c == '\n') {
+                    break;
+                }
+            }
+
+            if (c == -1) {
+                endOfStream = true;
+            }
+
+            String text = line.toString();
+            if (hasDynamicContent(text)) {
+                text = context.replaceDynamicContentInString(text);
+            }
+
+            buffer = text.getBytes(charset);
+            position = 0;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if line may hold variable expressions or functions. Functions are defined as 'prefix:methodName(arguments)'
+     * so lines without variable marker and without colon and parentheses are passed through as is.
+     * @param text
+     * @return
+     */
+    private static boolean hasDynamicContent(String text) {
+        return text.contains("${") ||
+                (text.indexOf(':') >= 0 && text.indexOf('(') >= 0 && text.indexOf(')') >= 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -21,6 +21,7 @@ import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.message.FtpMessageHeaders;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
@@ -29,6 +30,8 @@ import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import com.consol.citrus.util.FileUtils;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.net.ProtocolCommandEvent;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.*;
@@ -37,12 +40,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.util.FileCopyUtils;
+import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.*;
 
 import static org.apache.commons.net.ftp.FTPReply.FILE_ACTION_OK;
@@ -284,7 +289,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     /**
      * Constructs local file input stream. When using ASCII data type the test variable replacement is activated otherwise
-     * plain byte stream is used.
+     * plain byte stream is used. Files exceeding the streaming threshold are filtered line by line instead of being loaded
+     * into memory.
      *
      * @param path
      * @param dataType
@@ -294,7 +300,12 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      */
     protected InputStream getLocalFileInputStream(String path, String dataType, TestContext context) throws IOException {
         if (dataType.equals(DataType.ASCII.name())) {
-            String content = context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(path)));
+            Resource resource = FileUtils.getFileResource(path);
+            if (isStreaming(resource.contentLength())) {
+                return new DynamicContentInputStream(resource.getInputStream(), context, FileUtils.getDefaultCharset());
+            }
+
+            String content = context.replaceDynamicContentInString(FileUtils.readToString(resource));
             return new ByteArrayInputStream(content.getBytes(FileUtils.getDefaultCharset()));
         } else {
             return FileUtils.getFileResource(path).getInputStream();
@@ -315,7 +326,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (FileOutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
+            MessageDigest digest = createFileDigest();
+            try (OutputStream localFileOutputStream = getLocalFileOutputStream(localFilePath, digest)) {
                 ftpClient.setFileType(getFileType(dataType));
 
                 if (!ftpClient.retrieveFile(remoteFilePath, localFileOutputStream)) {
@@ -324,21 +336,79 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                 }
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
-                String fileContent;
-                if (command.getFile().getType().equals(DataType.BINARY.name())) {
-                    fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
-                } else {
-                    fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
-                }
+            return retrieveResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, dataType, digest);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to get file from FTP server", e);
+        }
+    }
+
+    /**
+     * Constructs local file output stream for retrieved files. When digest is given the stream calculates the file
+     * checksum incrementally while the file is written.
+     *
+     * @param localFilePath
+     * @param digest
+     * @return
+     * @throws IOException
+     */
+    protected OutputStream getLocalFileOutputStream(String localFilePath, MessageDigest digest) throws IOException {
+        OutputStream outputStream = new FileOutputStream(localFilePath);
+        return digest != null ? new DigestOutputStream(outputStream, digest) : outputStream;
+    }
+
+    /**
+     * Creates message digest for retrieved file checksum calculation. Returns null when streaming is disabled.
+     * @return
+     */
+    protected MessageDigest createFileDigest() {
+        return getEndpointConfiguration().getStreamingThreshold() >= 0 ? DigestUtils.getMd5Digest() : null;
+    }
 
-                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, fileContent);
+    /**
+     * Constructs retrieve file result message. Files exceeding the streaming threshold are not read into the message payload
+     * so the result only references the local file path. In streaming mode the result carries file size and checksum headers.
+     *
+     * @param replyCode
+     * @param replyString
+     * @param localFilePath
+     * @param dataType
+     * @param digest
+     * @return
+     * @throws IOException
+     */
+    protected FtpMessage retrieveResult(int replyCode, String replyString, String localFilePath, String dataType, MessageDigest digest) throws IOException {
+        long fileSize = Files.size(Paths.get(localFilePath));
+
+        FtpMessage result;
+        if (getEndpointConfiguration().isAutoReadFiles() && !isStreaming(fileSize)) {
+            String fileContent;
+            if (dataType.equals(DataType.BINARY.name())) {
+                fileContent = Base64.encodeBase64String(Files.readAllBytes(Paths.get(localFilePath)));
             } else {
-                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, null);
+                fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
             }
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to get file from FTP server", e);
+
+            result = FtpMessage.result(replyCode, replyString, localFilePath, fileContent);
+        } else {
+            result = FtpMessage.result(replyCode, replyString, localFilePath, null);
+        }
+
+        if (digest != null) {
+            result.setHeader(FtpMessageHeaders.FTP_FILE_SIZE, fileSize);
+            result.setHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM, Hex.encodeHexString(digest.digest()));
         }
+
+        return result;
+    }
+
+    /**
+     * Checks if file of given size exceeds the streaming threshold.
+     * @param fileSize
+     * @return
+     */
+    private boolean isStreaming(long fileSize) {
+        long streamingThreshold = getEndpointConfiguration().getStreamingThreshold();
+        return streamingThreshold >= 0 && fileSize > streamingThreshold;
     }
 
     /**
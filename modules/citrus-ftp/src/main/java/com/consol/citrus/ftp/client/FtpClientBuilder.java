@@ -64,6 +64,16 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         return this;
     }
 
+    /**
+     * Sets the streaming threshold property.
+     * @param streamingThreshold
+     * @return
+     */
+    public FtpClientBuilder streamingThreshold(long streamingThreshold) {
+        endpoint.getEndpointConfiguration().setStreamingThreshold(streamingThreshold);
+        return this;
+    }
+
     /**
      * Sets the local passive mode property.
      * @param localPassiveMode
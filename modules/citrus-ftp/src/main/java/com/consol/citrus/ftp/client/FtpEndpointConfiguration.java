@@ -64,6 +64,9 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Auto read file content retrieved from server */
     private boolean autoReadFiles = true;
 
+    /** File size in bytes above which retrieved files are streamed to disk and not read into the message, negative value disables streaming */
+    private long streamingThreshold = -1L;
+
     /** File transfer passive mode */
     private boolean localPassiveMode = true;
 
@@ -255,6 +258,24 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.autoReadFiles = autoReadFiles;
     }
 
+    /**
+     * Gets the streamingThreshold.
+     *
+     * @return
+     */
+    public long getStreamingThreshold() {
+        return streamingThreshold;
+    }
+
+    /**
+     * Sets the streamingThreshold.
+     *
+     * @param streamingThreshold
+     */
+    public void setStreamingThreshold(long streamingThreshold) {
+        this.streamingThreshold = streamingThreshold;
+    }
+
     /**
      * Gets the localPassiveMode.
      *
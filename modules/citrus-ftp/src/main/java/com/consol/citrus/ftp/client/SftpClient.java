@@ -22,7 +22,6 @@ import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
 import com.jcraft.jsch.*;
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
@@ -33,6 +32,7 @@ import org.springframework.util.*;
 
 import java.io.*;
 import java.nio.file.*;
+import java.security.MessageDigest;
 import java.util.*;
 
 /**
@@ -198,30 +198,30 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
-            try (InputStream inputStream = sftp.get(remoteFilePath)) {
-                byte[] bytes = FileCopyUtils.copyToByteArray(inputStream);
+            // create intermediate directories if necessary
+            Path localFilePathObj = Paths.get(localFilePath);
+            Files.createDirectories(localFilePathObj.getParent());
 
-                // create intermediate directories if necessary
-                Path localFilePathObj = Paths.get(localFilePath);
-                Files.createDirectories(localFilePathObj.getParent());
-                Files.write(localFilePathObj, bytes);
+            String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
+            MessageDigest digest = createFileDigest();
+
+            // stream to temporary file first as local and remote file may be the very same file
+            Path tempFilePath = Files.createTempFile(localFilePathObj.toAbsolutePath().getParent(), localFilePathObj.getFileName().toString(), ".part");
+            try (InputStream inputStream = sftp.get(remoteFilePath);
+                 OutputStream outputStream = getLocalFileOutputStream(tempFilePath.toString(), digest)) {
+                StreamUtils.copy(inputStream, outputStream);
             } catch (SftpException e) {
+                Files.deleteIfExists(tempFilePath);
                 throw new CitrusRuntimeException(String.format("Failed to get file from FTP server. Remote path: %s. Local file path: %s. Error: %s",
                         remoteFilePath, localFilePath, e.getMessage()));
+            } catch (IOException e) {
+                Files.deleteIfExists(tempFilePath);
+                throw e;
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
-                String fileContent;
-                if (command.getFile().getType().equals(DataType.BINARY.name())) {
-                    fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
-                } else {
-                    fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
-                }
+            Files.move(tempFilePath, localFilePathObj, StandardCopyOption.REPLACE_EXISTING);
 
-                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, fileContent);
-            } else {
-                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, null);
-            }
+            return retrieveResult(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, dataType, digest);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to get file from FTP server", e);
         }
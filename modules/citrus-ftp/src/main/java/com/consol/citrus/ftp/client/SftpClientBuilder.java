@@ -64,6 +64,16 @@ public class SftpClientBuilder extends AbstractEndpointBuilder<SftpClient> {
         return this;
     }
 
+    /**
+     * Sets the streaming threshold property.
+     * @param streamingThreshold
+     * @return
+     */
+    public SftpClientBuilder streamingThreshold(long streamingThreshold) {
+        endpoint.getEndpointConfiguration().setStreamingThreshold(streamingThreshold);
+        return this;
+    }
+
     /**
      * Sets the local passive mode property.
      * @param localPassiveMode
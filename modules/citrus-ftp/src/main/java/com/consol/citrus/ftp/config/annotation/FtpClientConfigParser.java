@@ -48,6 +48,7 @@ public class FtpClientConfigParser extends AbstractAnnotationConfigParser<FtpCli
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.streamingThreshold(annotation.streamingThreshold());
         builder.localPassiveMode(annotation.localPassiveMode());
 
         if (StringUtils.hasText(annotation.username())) {
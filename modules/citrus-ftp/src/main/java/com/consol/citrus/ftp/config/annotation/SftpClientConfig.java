@@ -48,6 +48,12 @@ public @interface SftpClientConfig {
      */
     boolean autoReadFiles() default true;
 
+    /**
+     * Streaming threshold in bytes
+     * @return
+     */
+    long streamingThreshold() default -1L;
+
     /**
      * Local passive mode
      * @return
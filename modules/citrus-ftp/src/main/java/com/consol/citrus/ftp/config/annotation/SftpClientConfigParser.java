@@ -47,6 +47,7 @@ public class SftpClientConfigParser extends AbstractAnnotationConfigParser<SftpC
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.streamingThreshold(annotation.streamingThreshold());
         builder.localPassiveMode(annotation.localPassiveMode());
 
         if (StringUtils.hasText(annotation.username())) {
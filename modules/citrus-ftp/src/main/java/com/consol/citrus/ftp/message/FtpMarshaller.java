@@ -19,6 +19,7 @@ package com.consol.citrus.ftp.message;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.xml.Jaxb2MarshallerCache;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -50,7 +51,7 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
     private static final String JDBC_MARSHALLER_TYPE_PROPERTY = "citrus.ftp.marshaller.type";
 
     /** XML marshalling delegate */
-    private Jaxb2Marshaller jaxbDelegate = new Jaxb2Marshaller();
+    private final Jaxb2Marshaller jaxbDelegate;
 
     /** Message type format: XML or JSON */
     private String type;
@@ -59,27 +60,21 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
      * Default constructor
      */
     public FtpMarshaller() {
-        jaxbDelegate.setClassesToBeBound(Command.class,
-                            CommandResult.class,
-                            ConnectCommand.class,
-                            GetCommand.class,
-                            PutCommand.class,
-                            ListCommand.class,
-                            DeleteCommand.class,
-                            GetCommandResult.class,
-                            PutCommandResult.class,
-                            ListCommandResult.class,
-                            DeleteCommandResult.class);
-        jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-ftp-message.xsd"));
+        jaxbDelegate = Jaxb2MarshallerCache.getMarshaller(new ClassPathResource("com/consol/citrus/schema/citrus-ftp-message.xsd"),
+                Command.class,
+                CommandResult.class,
+                ConnectCommand.class,
+                GetCommand.class,
+                PutCommand.class,
+                ListCommand.class,
+                DeleteCommand.class,
+                GetCommandResult.class,
+                PutCommandResult.class,
+                ListCommandResult.class,
+                DeleteCommandResult.class);
 
         type = System.getProperty(JDBC_MARSHALLER_TYPE_PROPERTY, MessageType.XML.name());
 
-        try {
-            jaxbDelegate.afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup ftp message marshaller: " + e.getMessage());
-        }
-
         setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
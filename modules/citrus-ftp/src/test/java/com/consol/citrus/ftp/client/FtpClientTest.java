@@ -18,9 +18,12 @@ package com.consol.citrus.ftp.client;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.message.FtpMessageHeaders;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.*;
 import org.mockftpserver.fake.FakeFtpServer;
@@ -33,6 +36,7 @@ import org.testng.annotations.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.Arrays;
 
@@ -167,6 +171,37 @@ public class FtpClientTest extends AbstractFtpClientTest {
         fakeFtpServer.getFileSystem().delete("/" + UPLOAD_FILE);
     }
 
+    @Test
+    public void testStoreAndRetrieveFileStreaming() throws Exception {
+        String remoteFilePath = "/streaming_file";
+        Path uploadFile = Paths.get(targetPath, "streaming_upload_file");
+        Path downloadFile = Paths.get(targetPath, "streaming_download_file");
+        Files.write(uploadFile, "Hello ${user}!\nPlain line: (no dynamic content)\nBye\n".getBytes(StandardCharsets.UTF_8));
+        context.setVariable("user", "Citrus");
+
+        ftpClient.getEndpointConfiguration().setStreamingThreshold(0L);
+        try {
+            FtpMessage ftpMessage = ftpClient.storeFile(putCommand(uploadFile.toString(), remoteFilePath), context);
+            verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "226 Created file /streaming_file.");
+
+            FileEntry remoteFile = (FileEntry) fakeFtpServer.getFileSystem().getEntry(remoteFilePath);
+            String remoteContent = FileUtils.readToString(remoteFile.createInputStream(), StandardCharsets.UTF_8);
+            assertTrue(remoteContent.contains("Hello Citrus!"));
+            assertTrue(remoteContent.contains("Plain line: (no dynamic content)"));
+
+            ftpMessage = ftpClient.retrieveFile(getCommand(remoteFilePath, downloadFile.toString()), context);
+            verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "226 Closing data connection. Requested file action successful.");
+            assertNull(ftpMessage.getPayload(GetCommandResult.class).getFile().getData());
+            assertEquals(ftpMessage.getPayload(GetCommandResult.class).getFile().getPath(), downloadFile.toString());
+            assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_SIZE), Files.size(downloadFile));
+            assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM), DigestUtils.md5Hex(Files.readAllBytes(downloadFile)));
+            assertTrue(new String(Files.readAllBytes(downloadFile), StandardCharsets.UTF_8).contains("Hello Citrus!"));
+        } finally {
+            ftpClient.getEndpointConfiguration().setStreamingThreshold(-1L);
+            fakeFtpServer.getFileSystem().delete(remoteFilePath);
+        }
+    }
+
     @Test
     public void testDeleteCurrentDirectory() {
         assertTrue(fakeFtpServer.getFileSystem().exists(COMPLETELY_DELETE_FOLDER));
@@ -17,8 +17,10 @@
 package com.consol.citrus.ftp.client;
 
 import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.message.FtpMessageHeaders;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.sshd.common.NamedFactory;
 import org.apache.sshd.common.keyprovider.ClassLoadableResourceKeyPairProvider;
 import org.apache.sshd.server.SshServer;
@@ -125,6 +127,34 @@ public class SftpClientTest extends AbstractFtpClientTest {
                 new String(Files.readAllBytes(localDownloadFilePath), "UTF-8"));
     }
 
+    @Test
+    public void testStoreAndRetrieveFileStreaming() throws Exception {
+        Path localUploadFilePath = Paths.get(targetPath, "streaming_upload.txt");
+        Path localDownloadFilePath = Paths.get(targetPath, "streaming_download.txt");
+        String remoteStreamingFilePath = targetPath + "/streaming.txt";
+        writeToFile("Hello ${user}!\r\nGoodbye ${user}!\nBye", localUploadFilePath);
+        context.setVariable("user", "Citrus");
+
+        sftpClient.getEndpointConfiguration().setStreamingThreshold(0L);
+        try {
+            FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localUploadFilePath.toString(), remoteStreamingFilePath), context);
+            verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+            String expected = "Hello Citrus!\r\nGoodbye Citrus!\nBye";
+            Assert.assertEquals(new String(Files.readAllBytes(Paths.get(remoteStreamingFilePath)), StandardCharsets.UTF_8), expected);
+
+            ftpMessage = sftpClient.retrieveFile(getCommand(remoteStreamingFilePath, localDownloadFilePath.toString()), context);
+            verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+            Assert.assertNull(ftpMessage.getPayload(GetCommandResult.class).getFile().getData());
+            Assert.assertEquals(ftpMessage.getPayload(GetCommandResult.class).getFile().getPath(), localDownloadFilePath.toString());
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_SIZE), (long) expected.length());
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM), DigestUtils.md5Hex(expected));
+            Assert.assertEquals(new String(Files.readAllBytes(localDownloadFilePath), StandardCharsets.UTF_8), expected);
+        } finally {
+            sftpClient.getEndpointConfiguration().setStreamingThreshold(-1L);
+        }
+    }
+
     @Test
     public void testDeleteFile() {
         FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, remoteFilePath), context);
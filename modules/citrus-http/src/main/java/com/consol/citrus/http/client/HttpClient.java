@@ -16,9 +16,11 @@
 
 package com.consol.citrus.http.client;
 
+import com.consol.citrus.container.ActionExecutionService;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.http.interceptor.LoggingClientInterceptor;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.message.Message;
@@ -32,12 +34,19 @@ import org.springframework.util.CollectionUtils;
 
 import java.net.URI;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Http client sends messages via Http protocol to some Http server instance, defined by a request endpoint url. Synchronous response
  * messages are cached in local memory and receive operations are able to fetch responses from this cache later on.
  *
+ * In async mode the request is performed in a pooled worker thread so send operation returns immediately. The pending response is
+ * stored with the request correlation key and converted on the receiving test thread. Async request failures are raised on receive.
+ * Completed responses that are not received within the endpoint timeout are discarded.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -48,6 +57,23 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Worker threads performing async requests */
+    private ActionExecutionService asyncExecutionService;
+
+    /** Pending async responses by correlation key */
+    private final Map<String, CompletableFuture<ResponseEntity<?>>> asyncResponses = new ConcurrentHashMap<>();
+
+    /** Scheduler discarding completed async responses that are not received within endpoint timeout */
+    private static final ScheduledExecutorService ASYNC_RESPONSE_EXPIRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "citrus-http-async-response-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Async request metrics */
+    private final AtomicLong asyncRequests = new AtomicLong();
+    private final AtomicLong failedAsyncRequests = new AtomicLong();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -109,6 +135,42 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
         HttpEntity<?> requestEntity = getEndpointConfiguration().getMessageConverter().convertOutbound(httpMessage, getEndpointConfiguration(), context);
 
+        if (getEndpointConfiguration().isAsync()) {
+            final HttpMethod requestMethod = method;
+            CompletableFuture<ResponseEntity<?>> asyncResponse = new CompletableFuture<>();
+            asyncResponses.put(correlationKey, asyncResponse);
+            asyncResponse.whenComplete((response, error) -> ASYNC_RESPONSE_EXPIRY_SCHEDULER.schedule(() -> {
+                if (asyncResponses.remove(correlationKey, asyncResponse)) {
+                    log.warn("Discarded asynchronous reply message from http server that was not received within " +
+                            getEndpointConfiguration().getTimeout() + "ms");
+                }
+            }, Math.max(getEndpointConfiguration().getTimeout(), 0L), TimeUnit.MILLISECONDS));
+            asyncRequests.incrementAndGet();
+            getAsyncExecutionService().execute(() -> {
+                try {
+                    asyncResponse.complete(exchange(httpMessage, endpointUri, requestMethod, requestEntity));
+                } catch (RuntimeException e) {
+                    failedAsyncRequests.incrementAndGet();
+                    log.error("Failed to send async HTTP request to endpoint: '" + endpointUri + "'", e);
+                    asyncResponse.completeExceptionally(e);
+                }
+            });
+        } else {
+            ResponseEntity<?> response = exchange(httpMessage, endpointUri, method, requestEntity);
+            correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
+        }
+    }
+
+    /**
+     * Performs request with rest template and returns the response entity. Error responses are returned as response entity
+     * according to error handling strategy. Does not access the test context so it is safe to call from async worker threads.
+     * @param httpMessage
+     * @param endpointUri
+     * @param method
+     * @param requestEntity
+     * @return
+     */
+    private ResponseEntity<?> exchange(HttpMessage httpMessage, String endpointUri, HttpMethod method, HttpEntity<?> requestEntity) {
         try {
             ResponseEntity<?> response;
             MediaType accept = Optional.ofNullable(httpMessage.getAccept())
@@ -129,14 +191,40 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
             }
 
             log.info("HTTP message was sent to endpoint: '" + endpointUri + "'");
-            correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
+            return response;
         } catch (HttpErrorPropagatingException e) {
             log.info("Caught HTTP rest client exception: " + e.getMessage());
             log.info("Propagating HTTP rest client exception according to error handling strategy");
-            Message responseMessage = getEndpointConfiguration().getMessageConverter().convertInbound(
-                    new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode()), getEndpointConfiguration(), context);
-            correlationManager.store(correlationKey, responseMessage);
+            return new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode());
+        }
+    }
+
+    /**
+     * Waits for pending async response and converts it to response message on the calling test thread. Exceptions raised
+     * by the async request are rethrown.
+     * @param asyncResponse
+     * @param context
+     * @param timeout
+     * @return
+     */
+    private Message receiveAsyncResponse(CompletableFuture<ResponseEntity<?>> asyncResponse, TestContext context, long timeout) {
+        ResponseEntity<?> response;
+        try {
+            response = asyncResponse.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException("Action timeout while receiving asynchronous reply message from http server");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for asynchronous reply message from http server", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException("Failed to receive asynchronous reply message from http server", e.getCause());
         }
+
+        return getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context);
     }
 
     @Override
@@ -158,6 +246,11 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
+        CompletableFuture<ResponseEntity<?>> asyncResponse = asyncResponses.remove(selector);
+        if (asyncResponse != null) {
+            return receiveAsyncResponse(asyncResponse, context, timeout);
+        }
+
         Message message = correlationManager.find(selector, timeout);
 
         if (message == null) {
@@ -187,6 +280,44 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         return this;
     }
 
+    /**
+     * Gets the execution service performing async requests. Service is created lazily with a worker pool
+     * sized to the maximum number of connections per route.
+     * @return
+     */
+    public synchronized ActionExecutionService getAsyncExecutionService() {
+        if (asyncExecutionService == null) {
+            int poolSize = getEndpointConfiguration().getMaxConnectionsPerRoute() > 0 ? getEndpointConfiguration().getMaxConnectionsPerRoute() : 5;
+            asyncExecutionService = new ActionExecutionService(poolSize);
+        }
+
+        return asyncExecutionService;
+    }
+
+    /**
+     * Gets the number of async requests sent.
+     * @return
+     */
+    public long getAsyncRequests() {
+        return asyncRequests.get();
+    }
+
+    /**
+     * Gets the number of async requests that failed without response. Failures are raised on receive.
+     * @return
+     */
+    public long getFailedAsyncRequests() {
+        return failedAsyncRequests.get();
+    }
+
+    /**
+     * Gets the number of async responses not yet received by the test.
+     * @return
+     */
+    public int getPendingAsyncResponses() {
+        return asyncResponses.size();
+    }
+
     /**
      * Sets the correlation manager.
      * @param correlationManager
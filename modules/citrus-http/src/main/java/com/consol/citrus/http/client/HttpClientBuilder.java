@@ -136,6 +136,46 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         return this;
     }
 
+    /**
+     * Sets the async property.
+     * @param flag
+     * @return
+     */
+    public HttpClientBuilder async(boolean flag) {
+        endpoint.getEndpointConfiguration().setAsync(flag);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxConnectionsPerRoute
+     * @return
+     */
+    public HttpClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections.
+     * @param maxConnections
+     * @return
+     */
+    public HttpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the connection keep alive timeout.
+     * @param keepAliveTimeout
+     * @return
+     */
+    public HttpClientBuilder keepAliveTimeout(long keepAliveTimeout) {
+        endpoint.getEndpointConfiguration().setKeepAliveTimeout(keepAliveTimeout);
+        return this;
+    }
+
     /**
      * Sets the handleCookies property.
      * @param flag
@@ -19,8 +19,12 @@ package com.consol.citrus.http.client;
 import com.consol.citrus.endpoint.AbstractPollableEndpointConfiguration;
 import com.consol.citrus.endpoint.resolver.DynamicEndpointUriResolver;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.*;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.*;
 import org.springframework.http.client.*;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -56,6 +60,10 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     /** Request factory */
     private ClientHttpRequestFactory requestFactory;
 
+    /** Marks rest template and request factory created by this configuration and not explicitly set */
+    private boolean defaultRestTemplate = false;
+    private boolean defaultRequestFactory = false;
+
     /** Resolves dynamic endpoint uri */
     private EndpointUriResolver endpointUriResolver = new DynamicEndpointUriResolver();
 
@@ -80,6 +88,14 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     /** Auto add default accept header with os supported content-types */
     private boolean defaultAcceptHeader = true;
 
+    /** Send requests asynchronously so send operation returns immediately */
+    private boolean async = false;
+
+    /** Connection pool limits and keep alive time in milliseconds of default request factory, negative values use http client defaults */
+    private int maxConnectionsPerRoute = -1;
+    private int maxConnections = -1;
+    private long keepAliveTimeout = -1L;
+
     /** Should handle http attributes */
     private boolean handleAttributeHeaders = false;
 
@@ -127,6 +143,7 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public void setRestTemplate(RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
+        this.defaultRestTemplate = false;
     }
 
     /**
@@ -209,6 +226,12 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         if (restTemplate == null) {
             restTemplate = new RestTemplate();
             restTemplate.setRequestFactory(getRequestFactory());
+            defaultRestTemplate = true;
+        } else if (defaultRestTemplate && requestFactory == null) {
+            restTemplate.setRequestFactory(getRequestFactory());
+        } else if (!defaultRestTemplate && isConnectionPoolConfigured()) {
+            throw new CitrusRuntimeException("Unable to apply connection pool settings to explicitly set rest template - " +
+                    "configure connection pool on the rest template request factory instead");
         }
 
         restTemplate.setErrorHandler(getErrorHandler());
@@ -279,18 +302,81 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public ClientHttpRequestFactory getRequestFactory() {
         if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory();
+            if (isConnectionPoolConfigured()) {
+                requestFactory = new HttpComponentsClientHttpRequestFactory(createPooledHttpClient());
+            } else {
+                requestFactory = new HttpComponentsClientHttpRequestFactory();
+            }
+
+            defaultRequestFactory = true;
+        } else if (!defaultRequestFactory && isConnectionPoolConfigured()) {
+            throw new CitrusRuntimeException("Unable to apply connection pool settings to explicitly set request factory - " +
+                    "configure connection pool on the request factory instead");
         }
 
         return requestFactory;
     }
 
+    /**
+     * Checks if connection pool limits or keep alive time are set.
+     * @return
+     */
+    private boolean isConnectionPoolConfigured() {
+        return maxConnectionsPerRoute > 0 || maxConnections > 0 || keepAliveTimeout >= 0;
+    }
+
+    /**
+     * Discards default request factory that has already been created so changed connection pool settings are applied
+     * to a new request factory on next access. Also default rest template picks up the new request factory.
+     */
+    private void resetDefaultRequestFactory() {
+        if (requestFactory != null && defaultRequestFactory) {
+            if (requestFactory instanceof DisposableBean) {
+                try {
+                    ((DisposableBean) requestFactory).destroy();
+                } catch (Exception e) {
+                    throw new CitrusRuntimeException("Failed to close default request factory", e);
+                }
+            }
+
+            requestFactory = null;
+        }
+    }
+
+    /**
+     * Creates http client with pooling connection manager using configured connection limits and keep alive time.
+     * @return
+     */
+    private org.apache.http.client.HttpClient createPooledHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        if (maxConnectionsPerRoute > 0) {
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        }
+
+        if (maxConnections > 0) {
+            connectionManager.setMaxTotal(maxConnections);
+        } else if (maxConnectionsPerRoute > connectionManager.getMaxTotal()) {
+            connectionManager.setMaxTotal(maxConnectionsPerRoute);
+        }
+
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager);
+
+        if (keepAliveTimeout >= 0) {
+            httpClientBuilder.setKeepAliveStrategy((response, context) -> keepAliveTimeout);
+        }
+
+        return httpClientBuilder.build();
+    }
+
     /**
      * Sets the client request factory.
      * @param requestFactory
      */
     public void setRequestFactory(ClientHttpRequestFactory requestFactory) {
         this.requestFactory = requestFactory;
+        this.defaultRequestFactory = false;
     }
 
     /**
@@ -327,6 +413,87 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         return defaultAcceptHeader;
     }
 
+    /**
+     * Gets the async.
+     *
+     * @return
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Sets the async.
+     *
+     * @param async
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Gets the maxConnectionsPerRoute.
+     *
+     * @return
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maxConnectionsPerRoute.
+     *
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        if (this.maxConnectionsPerRoute != maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            resetDefaultRequestFactory();
+        }
+    }
+
+    /**
+     * Gets the maxConnections.
+     *
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maxConnections.
+     *
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        if (this.maxConnections != maxConnections) {
+            this.maxConnections = maxConnections;
+            resetDefaultRequestFactory();
+        }
+    }
+
+    /**
+     * Gets the keepAliveTimeout.
+     *
+     * @return
+     */
+    public long getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    /**
+     * Sets the keepAliveTimeout.
+     *
+     * @param keepAliveTimeout
+     */
+    public void setKeepAliveTimeout(long keepAliveTimeout) {
+        if (this.keepAliveTimeout != keepAliveTimeout) {
+            this.keepAliveTimeout = keepAliveTimeout;
+            resetDefaultRequestFactory();
+        }
+    }
+
     /**
      * Gets the handleAttributeHeaders.
      *
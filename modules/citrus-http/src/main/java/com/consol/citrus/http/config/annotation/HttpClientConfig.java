@@ -85,6 +85,30 @@ public @interface HttpClientConfig {
      */
     boolean defaultAcceptHeader() default true;
 
+    /**
+     * Async send.
+     * @return
+     */
+    boolean async() default false;
+
+    /**
+     * Max connections per route.
+     * @return
+     */
+    int maxConnectionsPerRoute() default -1;
+
+    /**
+     * Max connections.
+     * @return
+     */
+    int maxConnections() default -1;
+
+    /**
+     * Keep alive timeout.
+     * @return
+     */
+    long keepAliveTimeout() default -1L;
+
     /**
      * Handle cookies.
      * @return
@@ -88,6 +88,10 @@ public class HttpClientConfigParser extends AbstractAnnotationConfigParser<HttpC
         }
 
         builder.defaultAcceptHeader(annotation.defaultAcceptHeader());
+        builder.async(annotation.async());
+        builder.maxConnectionsPerRoute(annotation.maxConnectionsPerRoute());
+        builder.maxConnections(annotation.maxConnections());
+        builder.keepAliveTimeout(annotation.keepAliveTimeout());
         builder.handleCookies(annotation.handleCookies());
         builder.charset(annotation.charset());
         builder.contentType(annotation.contentType());
@@ -54,6 +54,42 @@ public @interface HttpServerConfig {
      */
     boolean rootParentContext() default false;
 
+    /**
+     * Max threads.
+     * @return
+     */
+    int maxThreads() default 200;
+
+    /**
+     * Min threads.
+     * @return
+     */
+    int minThreads() default 8;
+
+    /**
+     * Max queued requests. Negative value is unbounded, zero is not allowed.
+     * @return
+     */
+    int maxQueuedRequests() default -1;
+
+    /**
+     * Acceptors.
+     * @return
+     */
+    int acceptors() default -1;
+
+    /**
+     * Selectors.
+     * @return
+     */
+    int selectors() default -1;
+
+    /**
+     * Accept queue size.
+     * @return
+     */
+    int acceptQueueSize() default 0;
+
     /**
      * Connector references.
      * @return
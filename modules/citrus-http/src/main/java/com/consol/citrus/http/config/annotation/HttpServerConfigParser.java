@@ -80,6 +80,12 @@ public class HttpServerConfigParser extends AbstractAnnotationConfigParser<HttpS
         }
 
         builder.rootParentContext(annotation.rootParentContext());
+        builder.maxThreads(annotation.maxThreads());
+        builder.minThreads(annotation.minThreads());
+        builder.maxQueuedRequests(annotation.maxQueuedRequests());
+        builder.acceptors(annotation.acceptors());
+        builder.selectors(annotation.selectors());
+        builder.acceptQueueSize(annotation.acceptQueueSize());
 
         builder.connectors(getReferenceResolver().resolve(annotation.connectors(), Connector.class));
 
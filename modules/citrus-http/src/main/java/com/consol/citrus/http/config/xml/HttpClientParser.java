@@ -60,6 +60,10 @@ public class HttpClientParser extends AbstractEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("request-url"), "requestUrl");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("default-accept-header"), "defaultAcceptHeader");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("async"), "async");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections-per-route"), "maxConnectionsPerRoute");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections"), "maxConnections");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("keep-alive-timeout"), "keepAliveTimeout");
 
         String requestMethod = element.getAttribute("request-method");
         if (StringUtils.hasText(requestMethod)) {
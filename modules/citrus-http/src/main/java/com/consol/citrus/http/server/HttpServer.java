@@ -23,8 +23,11 @@ import com.consol.citrus.server.AbstractServer;
 import org.eclipse.jetty.security.SecurityHandler;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.handler.*;
 import org.eclipse.jetty.servlet.*;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -57,6 +60,20 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
     /** Server port */
     private int port = 8080;
 
+    /** Jetty request thread pool limits */
+    private int maxThreads = 200;
+    private int minThreads = 8;
+
+    /** Maximum number of requests waiting for a free thread, when exceeded further requests are rejected. Negative value is unbounded, zero is not allowed */
+    private int maxQueuedRequests = -1;
+
+    /** Number of acceptor and selector threads of default connector, negative values use Jetty defaults */
+    private int acceptors = -1;
+    private int selectors = -1;
+
+    /** Accept queue size of default connector, zero uses operating system default */
+    private int acceptQueueSize = 0;
+
     /** Server resource base */
     private String resourceBase = "src/main/resources";
 
@@ -145,7 +162,7 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
                 jettyServer = connector.getServer();
                 jettyServer.addConnector(connector);
             } else {
-                jettyServer = new Server(port);
+                jettyServer = createServer();
             }
             
             HandlerCollection handlers = new HandlerCollection();
@@ -208,6 +225,35 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
         }
     }
 
+    /**
+     * Creates Jetty server with request thread pool and default connector using configured settings.
+     * @return
+     */
+    private Server createServer() {
+        if (maxQueuedRequests == 0) {
+            throw new CitrusRuntimeException("Invalid max queued requests setting for http server - " +
+                    "must be a positive number or negative for unbounded request queue, but was 0");
+        }
+
+        QueuedThreadPool threadPool;
+        if (maxQueuedRequests > 0) {
+            threadPool = new QueuedThreadPool(maxThreads, minThreads, 60000, new BlockingArrayQueue<>(maxQueuedRequests));
+        } else {
+            threadPool = new QueuedThreadPool(maxThreads, minThreads);
+        }
+        if (StringUtils.hasText(getName())) {
+            threadPool.setName(getName() + "-jetty");
+        }
+
+        Server server = new Server(threadPool);
+        ServerConnector serverConnector = new ServerConnector(server, acceptors, selectors);
+        serverConnector.setPort(port);
+        serverConnector.setAcceptQueueSize(acceptQueueSize);
+        server.addConnector(serverConnector);
+
+        return server;
+    }
+
     /**
      * Adds default Spring dispatcher servlet with servlet mapping.
      */
@@ -440,6 +486,102 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
         this.port = port;
     }
 
+    /**
+     * Gets the maxThreads.
+     * @return the maxThreads the maxThreads to get.
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Sets the maxThreads.
+     * @param maxThreads the maxThreads to set
+     */
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Gets the minThreads.
+     * @return the minThreads the minThreads to get.
+     */
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    /**
+     * Sets the minThreads.
+     * @param minThreads the minThreads to set
+     */
+    public void setMinThreads(int minThreads) {
+        this.minThreads = minThreads;
+    }
+
+    /**
+     * Gets the maxQueuedRequests.
+     * @return the maxQueuedRequests the maxQueuedRequests to get.
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Sets the maxQueuedRequests. Must be positive or negative for unbounded queue, zero is rejected on server start.
+     * @param maxQueuedRequests the maxQueuedRequests to set
+     */
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    /**
+     * Gets the acceptors.
+     * @return the acceptors the acceptors to get.
+     */
+    public int getAcceptors() {
+        return acceptors;
+    }
+
+    /**
+     * Sets the acceptors.
+     * @param acceptors the acceptors to set
+     */
+    public void setAcceptors(int acceptors) {
+        this.acceptors = acceptors;
+    }
+
+    /**
+     * Gets the selectors.
+     * @return the selectors the selectors to get.
+     */
+    public int getSelectors() {
+        return selectors;
+    }
+
+    /**
+     * Sets the selectors.
+     * @param selectors the selectors to set
+     */
+    public void setSelectors(int selectors) {
+        this.selectors = selectors;
+    }
+
+    /**
+     * Gets the acceptQueueSize.
+     * @return the acceptQueueSize the acceptQueueSize to get.
+     */
+    public int getAcceptQueueSize() {
+        return acceptQueueSize;
+    }
+
+    /**
+     * Sets the acceptQueueSize.
+     * @param acceptQueueSize the acceptQueueSize to set
+     */
+    public void setAcceptQueueSize(int acceptQueueSize) {
+        this.acceptQueueSize = acceptQueueSize;
+    }
+
     /**
      * Gets the resourceBase.
      * @return the resourceBase the resourceBase to get.
@@ -94,6 +94,66 @@ public class HttpServerBuilder extends AbstractEndpointBuilder<HttpServer> {
         return this;
     }
 
+    /**
+     * Sets the maximum number of request threads.
+     * @param maxThreads
+     * @return
+     */
+    public HttpServerBuilder maxThreads(int maxThreads) {
+        endpoint.setMaxThreads(maxThreads);
+        return this;
+    }
+
+    /**
+     * Sets the minimum number of request threads.
+     * @param minThreads
+     * @return
+     */
+    public HttpServerBuilder minThreads(int minThreads) {
+        endpoint.setMinThreads(minThreads);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of queued requests. Negative value is unbounded, zero is not allowed.
+     * @param maxQueuedRequests
+     * @return
+     */
+    public HttpServerBuilder maxQueuedRequests(int maxQueuedRequests) {
+        endpoint.setMaxQueuedRequests(maxQueuedRequests);
+        return this;
+    }
+
+    /**
+     * Sets the number of connector acceptor threads.
+     * @param acceptors
+     * @return
+     */
+    public HttpServerBuilder acceptors(int acceptors) {
+        endpoint.setAcceptors(acceptors);
+        return this;
+    }
+
+    /**
+     * Sets the number of connector selector threads.
+     * @param selectors
+     * @return
+     */
+    public HttpServerBuilder selectors(int selectors) {
+        endpoint.setSelectors(selectors);
+        return this;
+    }
+
+    /**
+     * Sets the connector accept queue size.
+     * @param acceptQueueSize
+     * @return
+     */
+    public HttpServerBuilder acceptQueueSize(int acceptQueueSize) {
+        endpoint.setAcceptQueueSize(acceptQueueSize);
+        return this;
+    }
+
     /**
      * Sets the connectors.
      * @param connectors
@@ -17,25 +17,34 @@
 package com.consol.citrus.http.client;
 
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.http.message.HttpMessageHeaders;
 import com.consol.citrus.message.*;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.apache.http.entity.ContentType;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Field;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 
@@ -85,6 +94,177 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
         verify(restTemplate).setInterceptors(anyList());
     }
 
+    @Test
+    public void testAsyncHttpPostRequest() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsync(true);
+        endpointConfiguration.setPollingInterval(50L);
+
+        Message requestMessage = new DefaultMessage(requestBody);
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        CountDownLatch sent = new CountDownLatch(1);
+        doAnswer((Answer<ResponseEntity<String>>) invocation -> {
+            Assert.assertTrue(sent.await(5000L, TimeUnit.MILLISECONDS));
+            return new ResponseEntity<>(responseBody, HttpStatus.OK);
+        }).when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        httpClient.send(requestMessage, context);
+        sent.countDown();
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(responseMessage.getPayload(), responseBody);
+        Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.OK);
+        Assert.assertEquals(httpClient.getAsyncRequests(), 1L);
+        Assert.assertEquals(httpClient.getFailedAsyncRequests(), 0L);
+    }
+
+    @Test
+    public void testAsyncHttpPostRequestFailure() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsync(true);
+
+        Message requestMessage = new DefaultMessage(requestBody);
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        doThrow(new ResourceAccessException("Connection refused"))
+                .when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        httpClient.send(requestMessage, context);
+
+        try {
+            httpClient.receive(context, endpointConfiguration.getTimeout());
+            Assert.fail("Missing exception due to failed async request");
+        } catch (ResourceAccessException e) {
+            Assert.assertEquals(e.getMessage(), "Connection refused");
+        }
+
+        Assert.assertEquals(httpClient.getAsyncRequests(), 1L);
+        Assert.assertEquals(httpClient.getFailedAsyncRequests(), 1L);
+    }
+
+    @Test
+    public void testAsyncHttpResponseExpiry() throws InterruptedException {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsync(true);
+        endpointConfiguration.setTimeout(200L);
+
+        Message requestMessage = new DefaultMessage(requestBody);
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        when(restTemplate.exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(new ResponseEntity<>(responseBody, HttpStatus.OK));
+
+        httpClient.send(requestMessage, context);
+        Assert.assertEquals(httpClient.getPendingAsyncResponses(), 1);
+
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (httpClient.getPendingAsyncResponses() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+        }
+
+        Assert.assertEquals(httpClient.getPendingAsyncResponses(), 0);
+        Assert.assertEquals(httpClient.getAsyncRequests(), 1L);
+    }
+
+    @Test
+    public void testPooledRequestFactory() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setMaxConnectionsPerRoute(50);
+        endpointConfiguration.setMaxConnections(100);
+        endpointConfiguration.setKeepAliveTimeout(30000L);
+
+        Assert.assertTrue(endpointConfiguration.getRequestFactory() instanceof HttpComponentsClientHttpRequestFactory);
+        Assert.assertSame(endpointConfiguration.getRestTemplate().getRequestFactory(), endpointConfiguration.getRequestFactory());
+
+        PoolingHttpClientConnectionManager connectionManager = getConnectionManager(endpointConfiguration);
+        Assert.assertEquals(connectionManager.getMaxTotal(), 100);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 50);
+    }
+
+    @Test
+    public void testPooledRequestFactoryMaxConnectionsPerRoute() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setMaxConnectionsPerRoute(50);
+
+        PoolingHttpClientConnectionManager connectionManager = getConnectionManager(endpointConfiguration);
+        Assert.assertEquals(connectionManager.getMaxTotal(), 50);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 50);
+    }
+
+    @Test
+    public void testPooledRequestFactoryAfterRestTemplateCreated() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        RestTemplate defaultRestTemplate = endpointConfiguration.getRestTemplate();
+
+        endpointConfiguration.setMaxConnectionsPerRoute(50);
+        endpointConfiguration.setMaxConnections(100);
+
+        Assert.assertSame(endpointConfiguration.getRestTemplate(), defaultRestTemplate);
+        Assert.assertSame(endpointConfiguration.getRestTemplate().getRequestFactory(), endpointConfiguration.getRequestFactory());
+
+        PoolingHttpClientConnectionManager connectionManager = getConnectionManager(endpointConfiguration);
+        Assert.assertEquals(connectionManager.getMaxTotal(), 100);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 50);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Unable to apply connection pool settings to explicitly set request factory.*")
+    public void testPooledRequestFactoryWithCustomRequestFactory() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setRequestFactory(new SimpleClientHttpRequestFactory());
+        endpointConfiguration.setMaxConnections(100);
+
+        endpointConfiguration.getRestTemplate();
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Unable to apply connection pool settings to explicitly set rest template.*")
+    public void testPooledRequestFactoryWithCustomRestTemplate() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setRestTemplate(new RestTemplate());
+        endpointConfiguration.setKeepAliveTimeout(30000L);
+
+        endpointConfiguration.getRestTemplate();
+    }
+
+    /**
+     * Gets the pooling connection manager used by the request factory http client.
+     * @param endpointConfiguration
+     * @return
+     */
+    private PoolingHttpClientConnectionManager getConnectionManager(HttpEndpointConfiguration endpointConfiguration) {
+        org.apache.http.client.HttpClient client = ((HttpComponentsClientHttpRequestFactory) endpointConfiguration.getRequestFactory()).getHttpClient();
+        Field connManager = ReflectionUtils.findField(client.getClass(), "connManager");
+        Assert.assertNotNull(connManager);
+        ReflectionUtils.makeAccessible(connManager);
+        return (PoolingHttpClientConnectionManager) ReflectionUtils.getField(connManager, client);
+    }
+
     @Test
     public void testCustomHeaders() {
         HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
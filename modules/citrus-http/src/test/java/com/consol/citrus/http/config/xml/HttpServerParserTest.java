@@ -115,6 +115,12 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getServletHandler(), beanDefinitionContext.getBean("servletHandler"));
         Assert.assertEquals(server.getName(), "httpServer4");
         Assert.assertEquals(server.getPort(), 8084);
+        Assert.assertEquals(server.getMaxThreads(), 50);
+        Assert.assertEquals(server.getMinThreads(), 5);
+        Assert.assertEquals(server.getMaxQueuedRequests(), 100);
+        Assert.assertEquals(server.getAcceptors(), 1);
+        Assert.assertEquals(server.getSelectors(), 2);
+        Assert.assertEquals(server.getAcceptQueueSize(), 64);
         Assert.assertEquals(server.getContextConfigLocation(), "classpath:com/consol/citrus/http/citrus-servlet-context.xml");
         Assert.assertEquals(server.getResourceBase(), "src/main/resources");
         Assert.assertFalse(server.isAutoStart());
@@ -130,6 +136,8 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getSecurityHandler(), beanDefinitionContext.getBean("securityHandler"));
         Assert.assertEquals(server.getName(), "httpServer5");
         Assert.assertEquals(server.getPort(), 8085);
+        Assert.assertEquals(server.getMaxThreads(), 200);
+        Assert.assertEquals(server.getMaxQueuedRequests(), -1);
         Assert.assertEquals(server.getContextConfigLocation(), "classpath:com/consol/citrus/http/citrus-servlet-context.xml");
         Assert.assertEquals(server.getResourceBase(), "src/main/resources");
         Assert.assertFalse(server.isAutoStart());
@@ -19,6 +19,7 @@ package com.consol.citrus.http.server;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.EndpointAdapter;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.http.client.HttpClient;
 import com.consol.citrus.http.client.HttpEndpointConfiguration;
 import com.consol.citrus.http.message.HttpMessage;
@@ -226,4 +227,10 @@ public class HttpServerTest extends AbstractTestNGUnitTest {
     }
 
 
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Invalid max queued requests setting.*")
+    public void testZeroMaxQueuedRequests() {
+        HttpServer invalidServer = new HttpServer();
+        invalidServer.setMaxQueuedRequests(0);
+        invalidServer.startup();
+    }
 }
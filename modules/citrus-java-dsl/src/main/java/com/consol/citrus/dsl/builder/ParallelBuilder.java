@@ -60,4 +60,14 @@ public class ParallelBuilder extends AbstractTestContainerBuilder<Parallel> {
         this(runner, new Parallel());
     }
 
+    /**
+     * Sets the maximum number of nested actions running at the same time.
+     * @param maxConcurrency
+     * @return
+     */
+    public ParallelBuilder maxConcurrency(int maxConcurrency) {
+        action.setMaxConcurrency(maxConcurrency);
+        return this;
+    }
+
 }
@@ -136,6 +136,24 @@ public class PurgeJmsQueuesBuilder extends AbstractTestActionBuilder<PurgeJmsQue
         return this;
     }
 
+    /**
+     * Purge queues concurrently with batched receives.
+     * @param parallel
+     */
+    public PurgeJmsQueuesBuilder parallel(boolean parallel) {
+        action.setParallel(parallel);
+        return this;
+    }
+
+    /**
+     * Sets the batch size used in parallel mode.
+     * @param batchSize
+     */
+    public PurgeJmsQueuesBuilder batchSize(int batchSize) {
+        action.setBatchSize(batchSize);
+        return this;
+    }
+
     /**
      * Checks if connection factory is set properly.
      * @return
@@ -51,6 +51,30 @@ public class ParallelTestDesignerTest extends AbstractTestNGUnitTest {
         assertEquals(container.getTestAction(0).getClass(), EchoAction.class);
     }
 
+    @Test
+    public void testParallelBuilderMaxConcurrency() {
+        MockTestDesigner builder = new MockTestDesigner(applicationContext, context) {
+            @Override
+            public void configure() {
+                parallel()
+                    .maxConcurrency(2)
+                    .actions(echo("1"),
+                        echo("2"),
+                        echo("3"));
+            }
+        };
+
+        builder.configure();
+
+        TestCase test = builder.getTestCase();
+        assertEquals(test.getActionCount(), 1);
+        assertEquals(test.getActions().get(0).getClass(), Parallel.class);
+
+        Parallel container = (Parallel)test.getActions().get(0);
+        assertEquals(container.getActionCount(), 3);
+        assertEquals(container.getMaxConcurrency(), 2);
+    }
+
     @Test
     public void testParallelBuilderNestedContainers() {
         MockTestDesigner builder = new MockTestDesigner(applicationContext, context) {
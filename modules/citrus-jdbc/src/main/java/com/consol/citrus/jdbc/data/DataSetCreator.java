@@ -41,7 +41,9 @@ public class DataSetCreator {
      */
     public DataSet createDataSet(final Message response, final MessageType messageType) {
         try {
-            if (response.getPayload() instanceof DataSet) {
+            if (response instanceof JdbcMessage) {
+                return isKnownMessageType(messageType) ? marshalResponse(response, messageType) : new DataSet();
+            } else if (response.getPayload() instanceof DataSet) {
                 return response.getPayload(DataSet.class);
             } else if (isReadyToMarshal(response, messageType)) {
                 return marshalResponse(response, messageType);
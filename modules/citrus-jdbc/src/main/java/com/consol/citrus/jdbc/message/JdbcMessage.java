@@ -41,6 +41,9 @@ public class JdbcMessage extends DefaultMessage {
 
     private JdbcMarshaller marshaller = new JdbcMarshaller();
 
+    /** Marshalled String representation of operation or operation result, reset when the model may have changed */
+    private String marshalledPayload;
+
     private static JdbcOperationGenerator operationGenerator = new JdbcOperationGenerator();
 
     /**
@@ -147,6 +150,7 @@ public class JdbcMessage extends DefaultMessage {
         }
 
         operationResult.setAffectedRows(number);
+        marshalledPayload = null;
         setHeader(JdbcMessageHeaders.JDBC_ROWS_UPDATED, number);
         return this;
     }
@@ -157,6 +161,7 @@ public class JdbcMessage extends DefaultMessage {
         }
 
         operationResult.setDataSet(dataSet);
+        marshalledPayload = null;
         return this;
     }
 
@@ -188,9 +193,13 @@ public class JdbcMessage extends DefaultMessage {
     @Override
     public <T> T getPayload(Class<T> type) {
         if (Operation.class.equals(type)) {
-            return (T) getOperation();
+            Operation model = getOperation();
+            marshalledPayload = null;
+            return (T) model;
         } else if (OperationResult.class.equals(type)) {
-            return (T) getOperationResult();
+            OperationResult model = getOperationResult();
+            marshalledPayload = null;
+            return (T) model;
         } else if (String.class.equals(type)) {
             return (T) getPayload();
         } else {
@@ -200,13 +209,19 @@ public class JdbcMessage extends DefaultMessage {
 
     @Override
     public Object getPayload() {
+        if (marshalledPayload != null) {
+            return marshalledPayload;
+        }
+
         StringResult payloadResult = new StringResult();
         if (operation != null) {
             marshaller.marshal(operation, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         } else if (operationResult != null) {
             marshaller.marshal(operationResult, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         }
 
         return super.getPayload();
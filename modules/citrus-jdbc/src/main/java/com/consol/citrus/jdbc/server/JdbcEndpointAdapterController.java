@@ -96,7 +96,7 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
 
     @Override
     public Message handleMessage(Message request) {
-        if (request.getPayload() instanceof Operation) {
+        if (!(request instanceof JdbcMessage) && request.getPayload() instanceof Operation) {
             StringResult result = new StringResult();
             endpointConfiguration.getMarshaller().marshal(request.getPayload(Operation.class), result);
             request.setPayload(result.toString());
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.jdbc.message;
+
+import com.consol.citrus.jdbc.model.OperationResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JdbcMessageTest {
+
+    @Test
+    public void testMarshalledPayloadReused() {
+        JdbcMessage message = JdbcMessage.success();
+
+        String payload = message.getPayload(String.class);
+        Assert.assertSame(message.getPayload(String.class), payload);
+
+        message.rowsUpdated(5);
+        String updated = message.getPayload(String.class);
+        Assert.assertNotSame(updated, payload);
+        Assert.assertTrue(updated.contains("5"));
+
+        message.getPayload(OperationResult.class).setAffectedRows(10);
+        Assert.assertTrue(message.getPayload(String.class).contains("10"));
+    }
+}
@@ -17,6 +17,7 @@
 package com.consol.citrus.jms.actions;
 
 import com.consol.citrus.actions.AbstractTestAction;
+import com.consol.citrus.container.ActionExecutionService;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
@@ -27,6 +28,9 @@ import org.springframework.jms.support.destination.DynamicDestinationResolver;
 import javax.jms.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Action to purge JMS queue destinations by simply consuming 
@@ -36,6 +40,9 @@ import java.util.List;
  *
  * Consumer will continue to receive messages until message receive timeout is reached,
  * so no messages are left.
+ *
+ * In parallel mode all queues are drained concurrently with batched client acknowledged receives. Draining stops
+ * as soon as a batch receives no messages or browsing the queue shows no more messages.
  *  
  * @author Christoph Deppisch
  * @since 2007
@@ -57,6 +64,12 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
     /** Wait some time between message consumption in ms */
     private long sleepTime = 350;
 
+    /** Purge queues concurrently with batched receives */
+    private boolean parallel = false;
+
+    /** Number of messages acknowledged at once in parallel mode */
+    private int batchSize = 100;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(PurgeJmsQueuesAction.class);
 
@@ -77,14 +90,20 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
         
         try {
         	connection = createConnection();
-            session = createSession(connection);
-            connection.start();
-            
-            for (Queue queue : queues) {
-                purgeQueue(queue, session);
-            }
-            for (String queueName : queueNames) {
-                purgeQueue(context.replaceDynamicContentInString(queueName), session);
+
+            if (parallel) {
+                connection.start();
+                purgeQueuesParallel(connection, context);
+            } else {
+                session = createSession(connection);
+                connection.start();
+
+                for (Queue queue : queues) {
+                    purgeQueue(queue, session);
+                }
+                for (String queueName : queueNames) {
+                    purgeQueue(context.replaceDynamicContentInString(queueName), session);
+                }
             }
 
         } catch (JMSException e) {
@@ -130,6 +149,7 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
             log.debug("Try to purge destination " + destinationName);
         }
 
+        long started = System.currentTimeMillis();
         int messagesPurged = 0;
         MessageConsumer messageConsumer = session.createConsumer(destination);
         try {
@@ -149,11 +169,134 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
                 }
             } while (message != null);
 
+            log.info(String.format("Purged %s messages from destination %s in %s ms", messagesPurged, destinationName, System.currentTimeMillis() - started));
+        } finally {
+            JmsUtils.closeMessageConsumer(messageConsumer);
+        }
+    }
+
+    /**
+     * Purges all queues concurrently each with its own session on the shared connection. When a queue fails to purge
+     * the remaining tasks are aborted and awaited before the error is raised so no task uses the connection after it has been closed.
+     * @param connection
+     * @param context
+     */
+    private void purgeQueuesParallel(Connection connection, TestContext context) {
+        ActionExecutionService executionService = ActionExecutionService.lookup(context);
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        for (Queue queue : queues) {
+            tasks.add(executionService.submit(() -> purgeQueueBatched(connection, queue, null, aborted)));
+        }
+        for (String queueName : queueNames) {
+            String resolvedQueueName = context.replaceDynamicContentInString(queueName);
+            tasks.add(executionService.submit(() -> purgeQueueBatched(connection, null, resolvedQueueName, aborted)));
+        }
+
+        RuntimeException error = null;
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                aborted.set(true);
+                if (error == null) {
+                    error = new CitrusRuntimeException("Interrupted while purging JMS queues", e);
+                }
+            } catch (ExecutionException e) {
+                aborted.set(true);
+                if (error == null) {
+                    error = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new CitrusRuntimeException(e.getCause());
+                }
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Purges queue with batched client acknowledged receives. Purging stops when a batch receives no messages, when the
+     * last batch was not complete and queue browsing shows no more messages or when purging has been aborted.
+     * @param connection
+     * @param queue the queue or null when queue name is given
+     * @param queueName
+     * @param aborted
+     */
+    private void purgeQueueBatched(Connection connection, Queue queue, String queueName, AtomicBoolean aborted) {
+        if (aborted.get()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        int messagesPurged = 0;
+        Session session = null;
+        MessageConsumer messageConsumer = null;
+
+        try {
+            session = connection.createSession(false, Session.CLIENT_ACKNOWLEDGE);
+            Queue destination = queue != null ? queue : (Queue) getDestination(session, queueName);
+            String destinationName = destination.getQueueName();
+
             if (log.isDebugEnabled()) {
-                log.debug("Purged " + messagesPurged + " messages from destination");
+                log.debug("Try to purge destination " + destinationName);
+            }
+
+            if (hasMessages(session, destination)) {
+                messageConsumer = session.createConsumer(destination);
+
+                int received;
+                do {
+                    received = 0;
+                    javax.jms.Message lastMessage = null;
+                    javax.jms.Message message;
+                    while (received < batchSize && !aborted.get() && (message = receiveBatched(messageConsumer)) != null) {
+                        lastMessage = message;
+                        received++;
+                    }
+
+                    if (lastMessage != null) {
+                        lastMessage.acknowledge();
+                    }
+
+                    messagesPurged += received;
+                } while (received > 0 && !aborted.get() && (received == batchSize || hasMessages(session, destination)));
             }
+
+            log.info(String.format("Purged %s messages from destination %s in %s ms", messagesPurged, destinationName, System.currentTimeMillis() - started));
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException("Failed to purge JMS queue " + (queueName != null ? queueName : queue), e);
         } finally {
             JmsUtils.closeMessageConsumer(messageConsumer);
+            JmsUtils.closeSession(session);
+        }
+    }
+
+    /**
+     * Receives next message in batch. Uses receive timeout when positive otherwise does not wait for messages to arrive.
+     * @param messageConsumer
+     * @return
+     * @throws JMSException
+     */
+    private javax.jms.Message receiveBatched(MessageConsumer messageConsumer) throws JMSException {
+        return (receiveTimeout > 0) ? messageConsumer.receive(receiveTimeout) : messageConsumer.receiveNoWait();
+    }
+
+    /**
+     * Browses queue in order to check for remaining messages.
+     * @param session
+     * @param queue
+     * @return
+     * @throws JMSException
+     */
+    private boolean hasMessages(Session session, Queue queue) throws JMSException {
+        QueueBrowser browser = session.createBrowser(queue);
+        try {
+            return browser.getEnumeration().hasMoreElements();
+        } finally {
+            JmsUtils.closeQueueBrowser(browser);
         }
     }
     
@@ -264,6 +407,38 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
         this.sleepTime = sleepTime;
     }
 
+    /**
+     * Sets the parallel.
+     * @param parallel the parallel to set
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gets the parallel.
+     * @return the parallel the parallel to get.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets the batchSize.
+     * @param batchSize the batchSize to set
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the batchSize.
+     * @return the batchSize the batchSize to get.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     /**
      * Gets the sleepTime.
      * @return the sleepTime the sleepTime to get.
@@ -101,6 +101,18 @@ public @interface JmsSyncEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Shared reply destination.
+     * @return
+     */
+    boolean sharedReplyDestination() default false;
+
+    /**
+     * Pipelined request handling.
+     * @return
+     */
+    boolean pipelined() default false;
+
     /**
      * Message correlator.
      * @return
@@ -119,6 +119,8 @@ public class JmsSyncEndpointConfigParser extends AbstractAnnotationConfigParser<
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.sharedReplyDestination(annotation.sharedReplyDestination());
+        builder.pipelined(annotation.pipelined());
 
         return builder.initialize().build();
     }
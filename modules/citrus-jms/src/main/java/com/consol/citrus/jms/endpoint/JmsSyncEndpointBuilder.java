@@ -160,6 +160,26 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         return this;
     }
 
+    /**
+     * Sets the shared reply destination property.
+     * @param sharedReplyDestination
+     * @return
+     */
+    public JmsSyncEndpointBuilder sharedReplyDestination(boolean sharedReplyDestination) {
+        endpoint.getEndpointConfiguration().setSharedReplyDestination(sharedReplyDestination);
+        return this;
+    }
+
+    /**
+     * Sets the pipelined property.
+     * @param pipelined
+     * @return
+     */
+    public JmsSyncEndpointBuilder pipelined(boolean pipelined) {
+        endpoint.getEndpointConfiguration().setPipelined(pipelined);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
@@ -43,6 +43,12 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /** Use one long lived temporary reply destination for all requests demultiplexed by JMSCorrelationID */
+    private boolean sharedReplyDestination = false;
+
+    /** Send requests without waiting for the reply so many requests can be outstanding on shared reply destination */
+    private boolean pipelined = false;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +113,36 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the sharedReplyDestination.
+     * @return the sharedReplyDestination
+     */
+    public boolean isSharedReplyDestination() {
+        return sharedReplyDestination;
+    }
+
+    /**
+     * Sets the sharedReplyDestination.
+     * @param sharedReplyDestination the sharedReplyDestination to set
+     */
+    public void setSharedReplyDestination(boolean sharedReplyDestination) {
+        this.sharedReplyDestination = sharedReplyDestination;
+    }
+
+    /**
+     * Gets the pipelined.
+     * @return the pipelined
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Sets the pipelined. Pipelined request handling implies shared reply destination.
+     * @param pipelined the pipelined to set
+     */
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
 }
@@ -32,6 +32,9 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import javax.jms.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * @author Christoph Deppisch
@@ -48,6 +51,30 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Idle pooled sessions with anonymous producers used for shared reply destination requests */
+    private final ConcurrentLinkedQueue<PooledSession> sessionPool = new ConcurrentLinkedQueue<>();
+
+    /** Session and consumer listening on shared reply destination */
+    private Session replySession;
+    private MessageConsumer replyConsumer;
+    private Destination sharedReplyDestination;
+
+    /** Pending replies on shared reply destination by JMSCorrelationID */
+    private final ConcurrentHashMap<String, CompletableFuture<javax.jms.Message>> replies = new ConcurrentHashMap<>();
+
+    /** Pipelined replies not received yet by correlation key */
+    private final ConcurrentHashMap<String, CompletableFuture<javax.jms.Message>> pipelinedReplies = new ConcurrentHashMap<>();
+
+    /** Senders register pending replies under read lock, reply listener looks up pending replies under write lock */
+    private final ReadWriteLock replyRegistration = new ReentrantReadWriteLock();
+
+    /** Scheduler expiring pipelined replies that did not arrive within reply timeout */
+    private static final ScheduledExecutorService REPLY_TIMEOUT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "citrus-jms-reply-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
@@ -76,6 +103,11 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
         context.onOutboundMessage(message);
 
+        if (isSharedReplyDestination(message)) {
+            sendWithSharedReplyDestination(message, correlationKey, context);
+            return;
+        }
+
         MessageProducer messageProducer = null;
         MessageConsumer messageConsumer = null;
         Destination replyToDestination = null;
@@ -87,30 +119,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
             javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
             endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
 
-            Destination destination;
-            if (endpointConfiguration.getDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-                if (endpointConfiguration.getDestinationNameResolver() != null) {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
-                } else {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
-                }
-            } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getJmsTemplate().getDefaultDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-                destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
-            } else {
-                throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
-            }
+            Destination destination = getDestination(message, context, session);
 
             messageProducer = session.createProducer(destination);
 
@@ -171,6 +180,11 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
+        CompletableFuture<javax.jms.Message> pipelinedReply = pipelinedReplies.remove(selector);
+        if (pipelinedReply != null) {
+            return receivePipelinedReply(pipelinedReply, context, timeout);
+        }
+
         Message message = correlationManager.find(selector, timeout);
 
         if (message == null) {
@@ -180,12 +194,224 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         return message;
     }
 
+    /**
+     * Checks if request should use the shared reply destination. This is only the case when enabled on endpoint configuration
+     * and no explicit reply destination is set on message or endpoint configuration.
+     * @param message
+     * @return
+     */
+    private boolean isSharedReplyDestination(Message message) {
+        return (endpointConfiguration.isSharedReplyDestination() || endpointConfiguration.isPipelined()) &&
+                message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) == null &&
+                endpointConfiguration.getReplyDestination() == null &&
+                !StringUtils.hasText(endpointConfiguration.getReplyDestinationName());
+    }
+
+    /**
+     * Sends request with pooled session and producer. Reply is received on the long lived shared reply destination and
+     * demultiplexed by its JMSCorrelationID which is expected to be the request JMSCorrelationID if set otherwise the
+     * request JMSMessageID. In pipelined mode the method returns right after sending. The reply is converted when the
+     * test receives it, replies that do not arrive within the reply timeout are expired.
+     *
+     * @param message
+     * @param correlationKey
+     * @param context
+     */
+    private void sendWithSharedReplyDestination(Message message, String correlationKey, TestContext context) {
+        PooledSession pooledSession = null;
+
+        try {
+            createConnection();
+            Destination replyToDestination = getSharedReplyDestination();
+
+            pooledSession = borrowSession();
+            javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, pooledSession.session, endpointConfiguration, context);
+            endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
+
+            Destination destination = getDestination(message, context, pooledSession.session);
+
+            jmsRequest.setJMSReplyTo(replyToDestination);
+
+            CompletableFuture<javax.jms.Message> reply = new CompletableFuture<>();
+            String replyCorrelationId;
+
+            replyRegistration.readLock().lock();
+            try {
+                pooledSession.producer.send(destination, jmsRequest);
+                replyCorrelationId = StringUtils.hasText(jmsRequest.getJMSCorrelationID()) ? jmsRequest.getJMSCorrelationID() : jmsRequest.getJMSMessageID();
+                replies.put(replyCorrelationId, reply);
+            } finally {
+                replyRegistration.readLock().unlock();
+            }
+
+            sessionPool.offer(pooledSession);
+            pooledSession = null;
+
+            log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
+            log.debug("Receiving reply message on destination: '{}'", replyToDestination);
+
+            if (endpointConfiguration.isPipelined()) {
+                pipelinedReplies.put(correlationKey, reply);
+
+                if (endpointConfiguration.getTimeout() >= 0) {
+                    ScheduledFuture<?> expiry = REPLY_TIMEOUT_SCHEDULER.schedule(() -> {
+                        if (replies.remove(replyCorrelationId, reply)) {
+                            reply.completeExceptionally(new ActionTimeoutException("Reply timed out after " +
+                                    endpointConfiguration.getTimeout() + "ms. Did not receive reply message on reply destination"));
+                        }
+                    }, endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+                    reply.whenComplete((jmsReplyMessage, error) -> {
+                        expiry.cancel(false);
+                        if (error != null) {
+                            pipelinedReplies.remove(correlationKey, reply);
+                        }
+                    });
+                }
+
+                return;
+            }
+
+            try {
+                javax.jms.Message jmsReplyMessage = (endpointConfiguration.getTimeout() >= 0) ? reply.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS) : reply.get();
+                storeReply(jmsReplyMessage, correlationKey, replyToDestination, context);
+            } catch (TimeoutException e) {
+                throw new ActionTimeoutException("Reply timed out after " +
+                        endpointConfiguration.getTimeout() + "ms. Did not receive reply message on reply destination");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for reply message", e);
+            } catch (ExecutionException e) {
+                throw new CitrusRuntimeException(e.getCause());
+            } finally {
+                replies.remove(replyCorrelationId, reply);
+            }
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException(e);
+        } finally {
+            if (pooledSession != null) {
+                pooledSession.close();
+            }
+        }
+    }
+
+    /**
+     * Waits for pipelined reply message and converts it in the calling test thread.
+     * @param pipelinedReply
+     * @param context
+     * @param timeout
+     * @return
+     */
+    private Message receivePipelinedReply(CompletableFuture<javax.jms.Message> pipelinedReply, TestContext context, long timeout) {
+        javax.jms.Message jmsReplyMessage;
+        try {
+            jmsReplyMessage = timeout >= 0 ? pipelinedReply.get(timeout, TimeUnit.MILLISECONDS) : pipelinedReply.get();
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException("Action timeout while receiving synchronous reply message on jms destination");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for reply message", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CitrusRuntimeException) {
+                throw (CitrusRuntimeException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException(e.getCause());
+        }
+
+        Message responseMessage = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
+
+        log.info("Received reply message on JMS destination: '{}'", sharedReplyDestination);
+
+        context.onInboundMessage(responseMessage);
+        return responseMessage;
+    }
+
+    /**
+     * Converts reply message and stores it with correlation key.
+     * @param jmsReplyMessage
+     * @param correlationKey
+     * @param replyToDestination
+     * @param context
+     */
+    private void storeReply(javax.jms.Message jmsReplyMessage, String correlationKey, Destination replyToDestination, TestContext context) {
+        Message responseMessage = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
+
+        log.info("Received reply message on JMS destination: '{}'", replyToDestination);
+
+        context.onInboundMessage(responseMessage);
+
+        correlationManager.store(correlationKey, responseMessage);
+    }
+
+    /**
+     * Gets idle pooled session or creates a new one.
+     * @return
+     * @throws JMSException
+     */
+    private PooledSession borrowSession() throws JMSException {
+        PooledSession pooledSession = sessionPool.poll();
+        if (pooledSession == null) {
+            Session pooled = newSession(connection);
+            pooledSession = new PooledSession(pooled, pooled.createProducer(null));
+        }
+
+        return pooledSession;
+    }
+
+    /**
+     * Gets the shared reply destination. Lazily creates temporary destination and a consumer session that completes pending
+     * replies by their JMSCorrelationID.
+     * @return
+     * @throws JMSException
+     */
+    private synchronized Destination getSharedReplyDestination() throws JMSException {
+        if (sharedReplyDestination == null) {
+            replySession = newSession(connection);
+
+            if (endpointConfiguration.isPubSubDomain() && replySession instanceof TopicSession) {
+                sharedReplyDestination = replySession.createTemporaryTopic();
+            } else {
+                sharedReplyDestination = replySession.createTemporaryQueue();
+            }
+
+            replyConsumer = replySession.createConsumer(sharedReplyDestination);
+            replyConsumer.setMessageListener(jmsReplyMessage -> {
+                try {
+                    String replyCorrelationId = jmsReplyMessage.getJMSCorrelationID();
+                    if (!StringUtils.hasText(replyCorrelationId)) {
+                        log.warn("Discard reply message without JMSCorrelationID on shared reply destination: '{}'", sharedReplyDestination);
+                        return;
+                    }
+
+                    CompletableFuture<javax.jms.Message> reply;
+                    replyRegistration.writeLock().lock();
+                    try {
+                        reply = replies.remove(replyCorrelationId);
+                    } finally {
+                        replyRegistration.writeLock().unlock();
+                    }
+
+                    if (reply != null) {
+                        reply.complete(jmsReplyMessage);
+                    } else {
+                        log.warn("Discard reply message with unknown or expired JMSCorrelationID '{}' on shared reply destination: '{}'",
+                                replyCorrelationId, sharedReplyDestination);
+                    }
+                } catch (JMSException e) {
+                    log.error("Failed to read JMSCorrelationID of reply message", e);
+                }
+            });
+        }
+
+        return sharedReplyDestination;
+    }
+
     /**
      * Create new JMS connection.
      * @return connection
      * @throws JMSException
      */
-    protected void createConnection() throws JMSException {
+    protected synchronized void createConnection() throws JMSException {
         if (connection == null) {
             if (!endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof QueueConnectionFactory) {
                 connection = ((QueueConnectionFactory) endpointConfiguration.getConnectionFactory()).createQueueConnection();
@@ -211,16 +437,26 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      */
     protected void createSession(Connection connection) throws JMSException {
         if (session == null) {
-            if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
-                session = ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
-                session = ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
-            } else {
-                log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
-                        " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+            session = newSession(connection);
+        }
+    }
 
-                session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-            }
+    /**
+     * Creates new JMS session according to publish subscribe domain setting.
+     * @param connection to use for session creation.
+     * @return
+     * @throws JMSException
+     */
+    private Session newSession(Connection connection) throws JMSException {
+        if (!endpointConfiguration.isPubSubDomain() && connection instanceof QueueConnection) {
+            return ((QueueConnection) connection).createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else if (endpointConfiguration.isPubSubDomain() && endpointConfiguration.getConnectionFactory() instanceof TopicConnectionFactory) {
+            return ((TopicConnection) connection).createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
+        } else {
+            log.warn("Not able to create a session with connection factory '" + endpointConfiguration.getConnectionFactory() + "'" +
+                    " when using setting 'publish-subscribe-domain' (=" + endpointConfiguration.isPubSubDomain() + ")");
+
+            return connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
         }
     }
 
@@ -294,13 +530,48 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Resolve request destination either by injected instance, destination name or jms template defaults.
+     * @param message
+     * @param context
+     * @param session
+     * @return
+     * @throws JMSException
+     */
+    private Destination getDestination(Message message, TestContext context, Session session) throws JMSException {
+        if (endpointConfiguration.getDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
+            }
+
+            return endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            if (endpointConfiguration.getDestinationNameResolver() != null) {
+                return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())), session);
+            } else {
+                return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()), session);
+            }
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
+            }
+
+            return endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()), session);
+        } else {
+            throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
+        }
+    }
+
     /**
      * Resolve destination from given name.
      * @param destinationName
+     * @param session
      * @return
      * @throws JMSException
      */
-    private Destination resolveDestination(String destinationName) throws JMSException {
+    private Destination resolveDestination(String destinationName, Session session) throws JMSException {
         if (log.isDebugEnabled()) {
             log.debug("Sending JMS message to destination: '" + destinationName + "'");
         }
@@ -328,11 +599,42 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void destroy() {
         JmsUtils.closeSession(session);
 
+        PooledSession pooledSession;
+        while ((pooledSession = sessionPool.poll()) != null) {
+            pooledSession.close();
+        }
+
+        synchronized (this) {
+            JmsUtils.closeMessageConsumer(replyConsumer);
+            deleteTemporaryDestination(sharedReplyDestination);
+            JmsUtils.closeSession(replySession);
+            sharedReplyDestination = null;
+        }
+
+        replies.clear();
+        pipelinedReplies.clear();
+
         if (connection != null) {
             ConnectionFactoryUtils.releaseConnection(connection, endpointConfiguration.getConnectionFactory(), true);
         }
     }
 
+    /**
+     * Gets the number of requests on shared reply destination still waiting for their reply message.
+     * @return
+     */
+    public int getPendingReplies() {
+        return replies.size();
+    }
+
+    /**
+     * Gets the number of pipelined replies not yet received by the test.
+     * @return
+     */
+    public int getPipelinedReplies() {
+        return pipelinedReplies.size();
+    }
+
     /**
      * Gets the correlation manager.
      * @return
@@ -348,4 +650,25 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void setCorrelationManager(CorrelationManager<Message> correlationManager) {
         this.correlationManager = correlationManager;
     }
+
+    /**
+     * Pooled session with anonymous message producer.
+     */
+    private static final class PooledSession {
+        private final Session session;
+        private final MessageProducer producer;
+
+        PooledSession(Session session, MessageProducer producer) {
+            this.session = session;
+            this.producer = producer;
+        }
+
+        /**
+         * Close producer and session.
+         */
+        void close() {
+            JmsUtils.closeMessageProducer(producer);
+            JmsUtils.closeSession(session);
+        }
+    }
 }
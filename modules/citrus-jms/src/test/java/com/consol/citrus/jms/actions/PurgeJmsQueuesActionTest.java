@@ -16,14 +16,18 @@
 
 package com.consol.citrus.jms.actions;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.jms.endpoint.TextMessageImpl;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.apache.activemq.ActiveMQConnectionFactory;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.jms.*;
 import javax.jms.Queue;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.mockito.Mockito.*;
 
@@ -226,4 +230,109 @@ public class PurgeJmsQueuesActionTest extends AbstractTestNGUnitTest {
         purgeQueuesAction.execute(context);
         verify(connection).start();
     }
+
+    @Test
+    public void testPurgeParallel() throws JMSException {
+        ActiveMQConnectionFactory activeMQConnectionFactory = new ActiveMQConnectionFactory("vm://purge-parallel?broker.persistent=false");
+        Connection brokerConnection = activeMQConnectionFactory.createConnection();
+
+        try {
+            brokerConnection.start();
+            Session brokerSession = brokerConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            MessageProducer producer = brokerSession.createProducer(null);
+            for (String queueName : Arrays.asList("purge.queue1", "purge.queue2", "purge.queue3")) {
+                for (int i = 0; i < 250; i++) {
+                    producer.send(brokerSession.createQueue(queueName), brokerSession.createTextMessage("Message" + i));
+                }
+            }
+
+            PurgeJmsQueuesAction purgeQueuesAction = new PurgeJmsQueuesAction();
+            purgeQueuesAction.setConnectionFactory(activeMQConnectionFactory);
+            purgeQueuesAction.setParallel(true);
+            purgeQueuesAction.setBatchSize(50);
+            purgeQueuesAction.setQueueNames(Arrays.asList("purge.queue1", "purge.queue2", "${emptyQueue}"));
+            purgeQueuesAction.setQueues(Collections.singletonList(brokerSession.createQueue("purge.queue3")));
+            context.setVariable("emptyQueue", "purge.empty");
+
+            purgeQueuesAction.execute(context);
+
+            for (String queueName : Arrays.asList("purge.queue1", "purge.queue2", "purge.queue3", "purge.empty")) {
+                MessageConsumer consumer = brokerSession.createConsumer(brokerSession.createQueue(queueName));
+                Assert.assertNull(consumer.receive(200L), "Queue " + queueName + " not purged");
+                consumer.close();
+            }
+        } finally {
+            brokerConnection.close();
+        }
+    }
+
+    @Test(timeOut = 10000L)
+    public void testPurgeParallelStopsOnEmptyBatch() throws JMSException {
+        PurgeJmsQueuesAction purgeQueuesAction = new PurgeJmsQueuesAction();
+        purgeQueuesAction.setConnectionFactory(connectionFactory);
+        purgeQueuesAction.setParallel(true);
+        purgeQueuesAction.setQueues(Collections.singletonList(queue));
+
+        QueueBrowser browser = Mockito.mock(QueueBrowser.class);
+
+        reset(connectionFactory, connection, session, messageConsumer, queue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(false, Session.CLIENT_ACKNOWLEDGE)).thenReturn(session);
+        when(queue.getQueueName()).thenReturn("myQueue");
+        when(session.createBrowser(queue)).thenReturn(browser);
+        when(browser.getEnumeration()).thenAnswer(invocation -> Collections.enumeration(Collections.singletonList(new TextMessageImpl("Locked", new HashMap<>()))));
+        when(session.createConsumer(queue)).thenReturn(messageConsumer);
+        when(messageConsumer.receive(100L)).thenReturn(null);
+
+        purgeQueuesAction.execute(context);
+
+        verify(messageConsumer).receive(100L);
+        verify(messageConsumer).close();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testPurgeParallelAwaitsTasksOnError() throws JMSException {
+        PurgeJmsQueuesAction purgeQueuesAction = new PurgeJmsQueuesAction();
+        purgeQueuesAction.setConnectionFactory(connectionFactory);
+        purgeQueuesAction.setParallel(true);
+        purgeQueuesAction.setQueueNames(Arrays.asList("failQueue", "myQueue"));
+
+        QueueBrowser browser = Mockito.mock(QueueBrowser.class);
+        AtomicBoolean consumerClosed = new AtomicBoolean(false);
+        AtomicBoolean consumerClosedBeforeConnection = new AtomicBoolean(false);
+
+        reset(connectionFactory, connection, session, messageConsumer, queue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(false, Session.CLIENT_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createQueue("failQueue")).thenThrow(new JMSException("Failed to resolve queue"));
+        when(session.createQueue("myQueue")).thenReturn(queue);
+        when(queue.getQueueName()).thenReturn("myQueue");
+        when(session.createBrowser(queue)).thenReturn(browser);
+        when(browser.getEnumeration()).thenAnswer(invocation -> Collections.enumeration(Collections.singletonList(new TextMessageImpl("Hello", new HashMap<>()))));
+        when(session.createConsumer(queue)).thenReturn(messageConsumer);
+        when(messageConsumer.receive(100L)).thenAnswer(invocation -> {
+            Thread.sleep(200L);
+            return null;
+        });
+        doAnswer(invocation -> {
+            consumerClosed.set(true);
+            return null;
+        }).when(messageConsumer).close();
+        doAnswer(invocation -> {
+            consumerClosedBeforeConnection.set(consumerClosed.get());
+            return null;
+        }).when(connection).close();
+
+        try {
+            purgeQueuesAction.execute(context);
+            Assert.fail("Missing exception due to failed queue purge");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("failQueue"));
+        }
+
+        Assert.assertTrue(consumerClosedBeforeConnection.get(), "Connection closed before all purge tasks finished");
+    }
 }
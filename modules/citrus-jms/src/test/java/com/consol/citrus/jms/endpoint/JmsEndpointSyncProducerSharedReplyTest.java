@@ -0,0 +1,138 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.jms.endpoint;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import javax.jms.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JmsEndpointSyncProducerSharedReplyTest extends AbstractTestNGUnitTest {
+
+    private ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory("vm://shared-reply?broker.persistent=false");
+    private Connection responderConnection;
+
+    @BeforeClass
+    public void startResponder() throws JMSException {
+        responderConnection = connectionFactory.createConnection();
+        Session responderSession = responderConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        MessageProducer replyProducer = responderSession.createProducer(null);
+        responderSession.createConsumer(responderSession.createQueue("shared.reply.request")).setMessageListener(request -> {
+            try {
+                TextMessage reply = responderSession.createTextMessage("Reply:" + ((TextMessage) request).getText());
+                reply.setJMSCorrelationID(request.getJMSMessageID());
+                replyProducer.send(request.getJMSReplyTo(), reply);
+            } catch (JMSException e) {
+                throw new CitrusRuntimeException(e);
+            }
+        });
+        responderConnection.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopResponder() throws JMSException {
+        responderConnection.close();
+    }
+
+    @Test
+    public void testSendMessageWithSharedReplyDestination() {
+        JmsSyncEndpoint endpoint = createEndpoint(false);
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                producer.send(new DefaultMessage("Hello" + i), context);
+                Assert.assertEquals(producer.receive(context).getPayload(String.class), "Reply:Hello" + i);
+            }
+        } finally {
+            producer.destroy();
+        }
+    }
+
+    @Test
+    public void testSendMessagePipelined() {
+        JmsSyncEndpoint endpoint = createEndpoint(true);
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+
+        try {
+            List<String> correlationKeys = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                Message request = new DefaultMessage("Hello" + i);
+                producer.send(request, context);
+                correlationKeys.add(endpoint.getEndpointConfiguration().getCorrelator().getCorrelationKey(request));
+            }
+
+            for (int i = 0; i < 10; i++) {
+                Assert.assertEquals(producer.receive(correlationKeys.get(i), context, 5000L).getPayload(String.class), "Reply:Hello" + i);
+            }
+
+            Assert.assertEquals(producer.getPendingReplies(), 0);
+        } finally {
+            producer.destroy();
+        }
+    }
+
+    @Test
+    public void testPipelinedReplyTimeout() throws InterruptedException {
+        JmsSyncEndpoint endpoint = createEndpoint(true);
+        endpoint.getEndpointConfiguration().setDestinationName("shared.reply.unanswered");
+        endpoint.getEndpointConfiguration().setTimeout(200L);
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+
+        try {
+            Message request = new DefaultMessage("Hello");
+            producer.send(request, context);
+            Assert.assertEquals(producer.getPendingReplies(), 1);
+
+            Thread.sleep(500L);
+            Assert.assertEquals(producer.getPendingReplies(), 0);
+
+            Assert.assertEquals(producer.getPipelinedReplies(), 0);
+
+            try {
+                producer.receive(endpoint.getEndpointConfiguration().getCorrelator().getCorrelationKey(request), context, 100L);
+                Assert.fail("Missing timeout exception for expired reply");
+            } catch (ActionTimeoutException e) {
+                Assert.assertTrue(e.getMessage().contains("Action timeout while receiving synchronous reply message"));
+            }
+        } finally {
+            producer.destroy();
+        }
+    }
+
+    private JmsSyncEndpoint createEndpoint(boolean pipelined) {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestinationName("shared.reply.request");
+        endpoint.getEndpointConfiguration().setSharedReplyDestination(true);
+        endpoint.getEndpointConfiguration().setPipelined(pipelined);
+        endpoint.getEndpointConfiguration().setPollingInterval(50L);
+        return endpoint;
+    }
+}
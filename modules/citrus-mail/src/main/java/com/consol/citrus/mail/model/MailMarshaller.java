@@ -18,9 +18,11 @@ package com.consol.citrus.mail.model;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessageType;
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.JsonMappingException;
+import com.consol.citrus.xml.Jaxb2MarshallerCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -33,7 +35,9 @@ import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
 import java.io.IOException;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * @author Christoph Deppisch
@@ -44,8 +48,14 @@ public class MailMarshaller extends ObjectMapper implements Marshaller, Unmarsha
     /** System property defining message format to marshal to */
     private static final String MAIL_MARSHALLER_TYPE_PROPERTY = "citrus.mail.marshaller.type";
 
+    /** Mail model types supported in JSON format in order of precedence */
+    private static final List<Class<?>> JSON_TYPES = Arrays.asList(AcceptRequest.class, AcceptResponse.class, MailRequest.class, MailResponse.class);
+
+    /** Known JSON property names per mail model type */
+    private static final Map<Class<?>, Set<String>> JSON_PROPERTIES = new ConcurrentHashMap<>();
+
     /** XML marshalling delegate */
-    private Jaxb2Marshaller jaxbDelegate = new Jaxb2Marshaller();
+    private final Jaxb2Marshaller jaxbDelegate;
 
     /** Message type format: XML or JSON */
     private String type = MessageType.XML.name();
@@ -57,20 +67,13 @@ public class MailMarshaller extends ObjectMapper implements Marshaller, Unmarsha
      * Default constructor
      */
     public MailMarshaller() {
-        jaxbDelegate.setClassesToBeBound(MailRequest.class,
+        jaxbDelegate = Jaxb2MarshallerCache.getMarshaller(new ClassPathResource("com/consol/citrus/schema/citrus-mail-message.xsd"),
+                MailRequest.class,
                 MailResponse.class,
                 AcceptRequest.class,
                 AcceptResponse.class);
 
-        jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-mail-message.xsd"));
-
         type = System.getProperty(MAIL_MARSHALLER_TYPE_PROPERTY, type);
-
-        try {
-            jaxbDelegate.afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup mail message marshaller", e);
-        }
     }
 
     @Override
@@ -85,29 +88,27 @@ public class MailMarshaller extends ObjectMapper implements Marshaller, Unmarsha
                 return jaxbDelegate.unmarshal(source);
             } catch (XmlMappingException e) {
                 if (source instanceof StreamSource) {
-                    for (Class<?> type : Arrays.asList(AcceptRequest.class, AcceptResponse.class, MailRequest.class, MailResponse.class)) {
-                        try {
-                            return readValue(((StreamSource) source).getReader(), type);
-                        } catch (JsonParseException | JsonMappingException e2) {
-                            continue;
-                        } catch (IOException io) {
-                            log.warn("Unable to read mail JSON object from source", io);
-                            throw e;
+                    try {
+                        Object result = readJson((StreamSource) source);
+                        if (result != null) {
+                            return result;
                         }
+                    } catch (IOException io) {
+                        log.warn("Unable to read mail JSON object from source", io);
+                        throw e;
                     }
                 }
 
                 throw e;
             }
         } else if (type.equalsIgnoreCase(MessageType.JSON.name())) {
-            for (Class<?> type : Arrays.asList(AcceptRequest.class, AcceptResponse.class, MailRequest.class, MailResponse.class)) {
-                try {
-                    return readValue(((StreamSource) source).getReader(), type);
-                } catch (JsonParseException | JsonMappingException e2) {
-                    continue;
-                } catch (IOException io) {
-                    throw new CitrusRuntimeException("Unable to read mail JSON object from source", io);
+            try {
+                Object result = readJson((StreamSource) source);
+                if (result != null) {
+                    return result;
                 }
+            } catch (IOException io) {
+                throw new CitrusRuntimeException("Unable to read mail JSON object from source", io);
             }
             throw new CitrusRuntimeException("Failed to read mail JSON object from source:" + source);
         } else {
@@ -115,6 +116,54 @@ public class MailMarshaller extends ObjectMapper implements Marshaller, Unmarsha
         }
     }
 
+    /**
+     * Reads JSON object from source. Source is parsed once and the target type is the first mail model type
+     * that knows all fields of the JSON object. Returns null when source is not a JSON object of any mail model type.
+     * @param source
+     * @return
+     * @throws IOException
+     */
+    private Object readJson(StreamSource source) throws IOException {
+        JsonNode json;
+        try {
+            json = readTree(source.getReader());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+
+        if (json == null || !json.isObject()) {
+            return null;
+        }
+
+        Set<String> fieldNames = new HashSet<>();
+        json.fieldNames().forEachRemaining(fieldNames::add);
+
+        for (Class<?> type : JSON_TYPES) {
+            if (getJsonProperties(type).containsAll(fieldNames)) {
+                try {
+                    return treeToValue(json, type);
+                } catch (JsonProcessingException e) {
+                    log.debug(String.format("Failed to read mail JSON object as %s: %s", type.getSimpleName(), e.getMessage()));
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets names of all JSON properties known to given mail model type.
+     * @param type
+     * @return
+     */
+    private Set<String> getJsonProperties(Class<?> type) {
+        return JSON_PROPERTIES.computeIfAbsent(type, key -> getDeserializationConfig().introspect(constructType(key))
+                .findProperties()
+                .stream()
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toSet()));
+    }
+
     @Override
     public void marshal(Object graph, Result result) {
         if (type.equalsIgnoreCase(MessageType.JSON.name())) {
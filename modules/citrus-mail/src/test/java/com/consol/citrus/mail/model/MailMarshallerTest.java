@@ -53,6 +53,17 @@ public class MailMarshallerTest {
         Assert.assertTrue(response.isAccept());
     }
 
+    @Test
+    public void testUnmarshalJsonType() throws Exception {
+        MailMarshaller jsonMarshaller = new MailMarshaller();
+        jsonMarshaller.setType("JSON");
+
+        Assert.assertTrue(jsonMarshaller.unmarshal(new StringSource(FileUtils.readToString(new ClassPathResource("com/consol/citrus/mail/server/text_mail.json")))) instanceof MailRequest);
+        Assert.assertTrue(jsonMarshaller.unmarshal(new StringSource(FileUtils.readToString(new ClassPathResource("com/consol/citrus/mail/server/mail_response.json")))) instanceof MailResponse);
+        Assert.assertTrue(jsonMarshaller.unmarshal(new StringSource(FileUtils.readToString(new ClassPathResource("com/consol/citrus/mail/server/accept-request.json")))) instanceof AcceptRequest);
+        Assert.assertTrue(jsonMarshaller.unmarshal(new StringSource(FileUtils.readToString(new ClassPathResource("com/consol/citrus/mail/server/accept-response.json")))) instanceof AcceptResponse);
+    }
+
     @Test
     public void testMarshal() throws Exception {
         MailRequest mailRequest = new MailRequest();
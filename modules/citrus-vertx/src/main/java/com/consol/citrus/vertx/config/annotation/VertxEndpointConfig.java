@@ -17,6 +17,7 @@
 package com.consol.citrus.vertx.config.annotation;
 
 import com.consol.citrus.annotations.CitrusEndpointConfig;
+import com.consol.citrus.vertx.endpoint.VertxEndpointConfiguration;
 
 import java.lang.annotation.*;
 
@@ -65,6 +66,24 @@ public @interface VertxEndpointConfig {
      */
     String messageConverter() default  "";
 
+    /**
+     * Persistent subscription.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Buffer size.
+     * @return
+     */
+    int bufferSize() default 1000;
+
+    /**
+     * Overflow policy.
+     * @return
+     */
+    VertxEndpointConfiguration.OverflowPolicy overflowPolicy() default VertxEndpointConfiguration.OverflowPolicy.DROP_NEWEST;
+
     /**
      * Polling interval.
      * @return
@@ -61,6 +61,10 @@ public class VertxEndpointConfigParser extends AbstractAnnotationConfigParser<Ve
             builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), VertxMessageConverter.class));
         }
 
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.bufferSize(annotation.bufferSize());
+        builder.overflowPolicy(annotation.overflowPolicy());
+
         builder.pollingInterval(annotation.pollingInterval());
 
         builder.timeout(annotation.timeout());
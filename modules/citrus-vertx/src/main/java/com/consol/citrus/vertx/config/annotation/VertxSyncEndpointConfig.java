@@ -17,6 +17,7 @@
 package com.consol.citrus.vertx.config.annotation;
 
 import com.consol.citrus.annotations.CitrusEndpointConfig;
+import com.consol.citrus.vertx.endpoint.VertxEndpointConfiguration;
 
 import java.lang.annotation.*;
 
@@ -71,6 +72,24 @@ public @interface VertxSyncEndpointConfig {
      */
     String correlator() default "";
 
+    /**
+     * Persistent subscription.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Buffer size.
+     * @return
+     */
+    int bufferSize() default 1000;
+
+    /**
+     * Overflow policy.
+     * @return
+     */
+    VertxEndpointConfiguration.OverflowPolicy overflowPolicy() default VertxEndpointConfiguration.OverflowPolicy.DROP_NEWEST;
+
     /**
      * Polling interval.
      * @return
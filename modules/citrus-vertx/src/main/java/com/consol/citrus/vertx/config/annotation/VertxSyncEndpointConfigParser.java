@@ -66,6 +66,10 @@ public class VertxSyncEndpointConfigParser extends AbstractAnnotationConfigParse
             builder.correlator(getReferenceResolver().resolve(annotation.correlator(), MessageCorrelator.class));
         }
 
+        builder.persistentSubscription(annotation.persistentSubscription());
+        builder.bufferSize(annotation.bufferSize());
+        builder.overflowPolicy(annotation.overflowPolicy());
+
         builder.pollingInterval(annotation.pollingInterval());
 
         builder.timeout(annotation.timeout());
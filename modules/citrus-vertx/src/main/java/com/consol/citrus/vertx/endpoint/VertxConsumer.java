@@ -16,21 +16,38 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 /**
+ * Consumer receives messages from Vert.x event bus address. By default a new event bus subscription is registered for each
+ * receive operation. With persistent subscription enabled the consumer keeps a long-lived subscription that feeds a bounded
+ * message buffer so messages arriving between receive operations are not lost. Buffered messages can be received with
+ * message selector.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxConsumer extends AbstractMessageConsumer {
+public class VertxConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Vert.x instance */
     private final Vertx vertx;
@@ -44,6 +61,26 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Retry logger */
     private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
 
+    /** Long-lived event bus subscription when using persistent subscription */
+    private MessageConsumer<Object> subscription;
+
+    /** Buffered inbound messages of persistent subscription */
+    private final ConcurrentLinkedDeque<io.vertx.core.eventbus.Message<Object>> buffer = new ConcurrentLinkedDeque<>();
+
+    /** Current and maximum number of buffered messages */
+    private final AtomicInteger bufferedMessages = new AtomicInteger();
+    private final AtomicInteger maxBufferedMessages = new AtomicInteger();
+
+    /** Number of messages dropped due to buffer overflow */
+    private final AtomicLong droppedMessages = new AtomicLong();
+
+    /** Counts inbound messages so waiting consumers can detect arrivals that happened during buffer scan */
+    private final AtomicLong arrivals = new AtomicLong();
+
+    /** Lock and condition used to signal message arrival to waiting consumers */
+    private final ReentrantLock arrivalLock = new ReentrantLock();
+    private final Condition messageArrived = arrivalLock.newCondition();
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -54,14 +91,26 @@ public class VertxConsumer extends AbstractMessageConsumer {
         super(name, endpointConfiguration);
         this.vertx = vertx;
         this.endpointConfiguration = endpointConfiguration;
+
+        if (endpointConfiguration.isPersistentSubscription()) {
+            subscribe();
+        }
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public Message receive(String selector, TestContext context, long timeout) {
         if (log.isDebugEnabled()) {
             log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
         }
 
+        if (subscription != null) {
+            return receiveBuffered(selector, context, timeout);
+        }
+
+        if (StringUtils.hasText(selector)) {
+            log.warn("Message selector is only supported with persistent subscription - ignoring selector '" + selector + "'");
+        }
+
         VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler();
         MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
 
@@ -101,6 +150,164 @@ public class VertxConsumer extends AbstractMessageConsumer {
         }
     }
 
+    /**
+     * Waits for next buffered message matching the given selector.
+     * @param selector
+     * @param context
+     * @param timeout
+     * @return
+     */
+    private Message receiveBuffered(String selector, TestContext context, long timeout) {
+        Predicate<io.vertx.core.eventbus.Message<Object>> messageSelector = null;
+        if (StringUtils.hasText(selector)) {
+            DispatchingMessageSelector dispatchingMessageSelector = new DispatchingMessageSelector(selector, context.getApplicationContext(), context);
+            messageSelector = vertxMessage -> {
+                Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessage, endpointConfiguration, context);
+                return dispatchingMessageSelector.accept(MessageBuilder.withPayload(message.getPayload())
+                        .copyHeaders(message.getHeaders())
+                        .build());
+            };
+        }
+
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+        long deadline = System.nanoTime() + nanosLeft;
+
+        io.vertx.core.eventbus.Message<Object> vertxMessage;
+        try {
+            while (true) {
+                long lastArrival = arrivals.get();
+
+                vertxMessage = select(messageSelector);
+                if (vertxMessage != null || nanosLeft <= 0) {
+                    break;
+                }
+
+                arrivalLock.lock();
+                try {
+                    while (arrivals.get() == lastArrival && nanosLeft > 0) {
+                        nanosLeft = messageArrived.awaitNanos(nanosLeft);
+                    }
+                } finally {
+                    arrivalLock.unlock();
+                }
+
+                nanosLeft = deadline - System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for message on Vert.x event bus", e);
+        }
+
+        if (vertxMessage == null) {
+            String address = endpointConfiguration.getAddress();
+            if (StringUtils.hasText(selector)) {
+                address = address + "(" + selector + ")";
+            }
+            throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + address + "'");
+        }
+
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessage, endpointConfiguration, context);
+
+        log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+
+        context.onInboundMessage(message);
+
+        return message;
+    }
+
+    /**
+     * Removes first buffered message matching the selector. Concurrent consumers never receive the same message
+     * as only one of them succeeds in removing the message from the buffer.
+     * @param selector
+     * @return
+     */
+    private io.vertx.core.eventbus.Message<Object> select(Predicate<io.vertx.core.eventbus.Message<Object>> selector) {
+        for (io.vertx.core.eventbus.Message<Object> vertxMessage : buffer) {
+            if ((selector == null || selector.test(vertxMessage)) && buffer.removeFirstOccurrence(vertxMessage)) {
+                bufferedMessages.decrementAndGet();
+                return vertxMessage;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds inbound message to buffer applying the overflow policy when buffer is full and signals waiting consumers.
+     * @param vertxMessage
+     */
+    private void addMessage(io.vertx.core.eventbus.Message<Object> vertxMessage) {
+        if (bufferedMessages.get() >= endpointConfiguration.getBufferSize()) {
+            droppedMessages.incrementAndGet();
+
+            if (endpointConfiguration.getOverflowPolicy() == VertxEndpointConfiguration.OverflowPolicy.DROP_OLDEST
+                    && buffer.pollFirst() != null) {
+                bufferedMessages.decrementAndGet();
+                log.warn("Vert.x message buffer is full - dropped oldest message on event bus address '" + endpointConfiguration.getAddress() + "'");
+            } else {
+                log.warn("Vert.x message buffer is full - dropped message on event bus address '" + endpointConfiguration.getAddress() + "'");
+                return;
+            }
+        }
+
+        buffer.addLast(vertxMessage);
+        maxBufferedMessages.accumulateAndGet(bufferedMessages.incrementAndGet(), Math::max);
+        arrivals.incrementAndGet();
+
+        arrivalLock.lock();
+        try {
+            messageArrived.signalAll();
+        } finally {
+            arrivalLock.unlock();
+        }
+    }
+
+    /**
+     * Registers long-lived event bus subscription feeding the message buffer.
+     */
+    public synchronized void subscribe() {
+        if (subscription == null) {
+            subscription = vertx.eventBus().consumer(endpointConfiguration.getAddress(), this::addMessage);
+        }
+    }
+
+    /**
+     * Unregisters long-lived event bus subscription. Buffered messages are discarded.
+     */
+    public synchronized void unsubscribe() {
+        if (subscription != null) {
+            subscription.unregister();
+            subscription = null;
+        }
+
+        buffer.clear();
+        bufferedMessages.set(0);
+    }
+
+    /**
+     * Gets the number of messages currently buffered.
+     * @return
+     */
+    public int getBufferedMessages() {
+        return bufferedMessages.get();
+    }
+
+    /**
+     * Gets the maximum number of messages buffered at the same time.
+     * @return
+     */
+    public int getMaxBufferedMessages() {
+        return maxBufferedMessages.get();
+    }
+
+    /**
+     * Gets the number of messages dropped due to buffer overflow.
+     * @return
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
     /**
      * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
      * until subscription is unregistered automatically.
@@ -94,6 +94,36 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         return this;
     }
 
+    /**
+     * Sets the persistent subscription.
+     * @param persistentSubscription
+     * @return
+     */
+    public VertxEndpointBuilder persistentSubscription(boolean persistentSubscription) {
+        endpoint.getEndpointConfiguration().setPersistentSubscription(persistentSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the buffer size.
+     * @param bufferSize
+     * @return
+     */
+    public VertxEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
+    /**
+     * Sets the overflow policy.
+     * @param overflowPolicy
+     * @return
+     */
+    public VertxEndpointBuilder overflowPolicy(VertxEndpointConfiguration.OverflowPolicy overflowPolicy) {
+        endpoint.getEndpointConfiguration().setOverflowPolicy(overflowPolicy);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
@@ -40,6 +40,23 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
+    /** Should keep long-lived event bus subscription buffering messages between receive operations */
+    private boolean persistentSubscription = false;
+
+    /** Max number of buffered messages when using persistent subscription */
+    private int bufferSize = 1000;
+
+    /** Policy applied when buffer is full */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+    /**
+     * Policy applied to inbound messages on persistent subscription when buffer is full.
+     */
+    public enum OverflowPolicy {
+        DROP_NEWEST,
+        DROP_OLDEST
+    }
+
     /**
      * Gets the address on the vert.x event bus.
      * @return
@@ -119,4 +136,53 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setMessageConverter(VertxMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the persistent subscription.
+     * @return
+     */
+    public boolean isPersistentSubscription() {
+        return persistentSubscription;
+    }
+
+    /**
+     * Sets the persistent subscription. When enabled consumer keeps a long-lived event bus subscription and buffers
+     * inbound messages between receive operations.
+     * @param persistentSubscription
+     */
+    public void setPersistentSubscription(boolean persistentSubscription) {
+        this.persistentSubscription = persistentSubscription;
+    }
+
+    /**
+     * Gets the buffer size.
+     * @return
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the max number of buffered messages on persistent subscription.
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the overflow policy.
+     * @return
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Sets the overflow policy applied when buffer is full.
+     * @param overflowPolicy
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
 }
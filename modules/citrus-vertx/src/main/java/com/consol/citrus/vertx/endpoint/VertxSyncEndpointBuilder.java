@@ -95,6 +95,36 @@ public class VertxSyncEndpointBuilder extends AbstractEndpointBuilder<VertxSyncE
         return this;
     }
 
+    /**
+     * Sets the persistent subscription.
+     * @param persistentSubscription
+     * @return
+     */
+    public VertxSyncEndpointBuilder persistentSubscription(boolean persistentSubscription) {
+        endpoint.getEndpointConfiguration().setPersistentSubscription(persistentSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the buffer size.
+     * @param bufferSize
+     * @return
+     */
+    public VertxSyncEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
+    /**
+     * Sets the overflow policy.
+     * @param overflowPolicy
+     * @return
+     */
+    public VertxSyncEndpointBuilder overflowPolicy(VertxEndpointConfiguration.OverflowPolicy overflowPolicy) {
+        endpoint.getEndpointConfiguration().setOverflowPolicy(overflowPolicy);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
@@ -22,6 +22,7 @@ import com.consol.citrus.annotations.CitrusEndpoint;
 import com.consol.citrus.context.SpringBeanReferenceResolver;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.endpoint.VertxEndpoint;
+import com.consol.citrus.vertx.endpoint.VertxEndpointConfiguration;
 import com.consol.citrus.vertx.factory.VertxInstanceFactory;
 import com.consol.citrus.vertx.message.VertxMessageConverter;
 import org.mockito.*;
@@ -53,7 +54,10 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
 
     @CitrusEndpoint
     @VertxEndpointConfig(address="news-feed3",
-            pubSubDomain=true)
+            pubSubDomain=true,
+            persistentSubscription=true,
+            bufferSize=50,
+            overflowPolicy=VertxEndpointConfiguration.OverflowPolicy.DROP_OLDEST)
     private VertxEndpoint vertxEndpoint3;
 
     @CitrusEndpoint
@@ -96,6 +100,9 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(vertxEndpoint1.getVertxInstanceFactory(), vertxInstanceFactory);
         Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getAddress(), "news-feed1");
         Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(vertxEndpoint1.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getBufferSize(), 1000);
+        Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getOverflowPolicy(), VertxEndpointConfiguration.OverflowPolicy.DROP_NEWEST);
 
         // 2nd message receiver
         Assert.assertNotNull(vertxEndpoint2.getVertxInstanceFactory());
@@ -109,6 +116,9 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         // 3rd message receiver
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertTrue(vertxEndpoint3.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getBufferSize(), 50);
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getOverflowPolicy(), VertxEndpointConfiguration.OverflowPolicy.DROP_OLDEST);
 
         // 4th message receiver
         Assert.assertNotNull(vertxEndpoint4.getActor());
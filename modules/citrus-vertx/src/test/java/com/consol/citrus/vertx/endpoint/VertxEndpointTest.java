@@ -16,12 +16,14 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.factory.SingleVertxInstanceFactory;
 import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -129,6 +131,90 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointPersistentSubscription() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        io.vertx.core.eventbus.Message firstMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        io.vertx.core.eventbus.Message secondMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(firstMessage.body()).thenReturn("First");
+        when(firstMessage.address()).thenReturn(eventBusAddress);
+        when(secondMessage.body()).thenReturn("Second");
+        when(secondMessage.address()).thenReturn(eventBusAddress);
+
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eq(eventBusAddress), handler.capture())).thenReturn(messageConsumer);
+
+        VertxConsumer vertxConsumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        Assert.assertSame(vertxEndpoint.createConsumer(), vertxConsumer);
+
+        handler.getValue().handle(firstMessage);
+        handler.getValue().handle(secondMessage);
+        Assert.assertEquals(vertxConsumer.getBufferedMessages(), 2);
+
+        Message receivedMessage = vertxConsumer.receive("payload = 'Second'", context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Second");
+
+        receivedMessage = vertxConsumer.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "First");
+        Assert.assertEquals(vertxConsumer.getBufferedMessages(), 0);
+        Assert.assertEquals(vertxConsumer.getMaxBufferedMessages(), 2);
+
+        try {
+            vertxConsumer.receive(context, 100L);
+            Assert.fail("Missing timeout exception");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains(eventBusAddress));
+        }
+
+        vertxEndpoint.destroy();
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointPersistentSubscriptionOverflow() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+        endpointConfiguration.setBufferSize(2);
+        endpointConfiguration.setOverflowPolicy(VertxEndpointConfiguration.OverflowPolicy.DROP_OLDEST);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eq(eventBusAddress), handler.capture())).thenReturn(messageConsumer);
+
+        VertxConsumer vertxConsumer = (VertxConsumer) vertxEndpoint.createConsumer();
+
+        for (int i = 1; i <= 3; i++) {
+            io.vertx.core.eventbus.Message vertxMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+            when(vertxMessage.body()).thenReturn("Message " + i);
+            handler.getValue().handle(vertxMessage);
+        }
+
+        Assert.assertEquals(vertxConsumer.getBufferedMessages(), 2);
+        Assert.assertEquals(vertxConsumer.getDroppedMessages(), 1L);
+        Assert.assertEquals(vertxConsumer.receive(context, 100L).getPayload(), "Message 2");
+        Assert.assertEquals(vertxConsumer.receive(context, 100L).getPayload(), "Message 3");
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
@@ -16,16 +16,26 @@
 
 package com.consol.citrus.websocket.endpoint;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer waits for incoming messages on web socket handler. When receiving with message selector the received messages
+ * carry the id of the web socket session as header so message selectors are able to select messages per session. Each inbound
+ * message is converted only once per receive operation, even when message selectors evaluate the message several times.
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,8 +64,30 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        boolean selective = StringUtils.hasText(selector);
+        Map<CitrusWebSocketHandler.InboundMessage, Message> convertedMessages = new HashMap<>();
+
+        Predicate<CitrusWebSocketHandler.InboundMessage> messageSelector = null;
+        if (selective) {
+            DispatchingMessageSelector dispatchingMessageSelector = new DispatchingMessageSelector(selector, context.getApplicationContext(), context);
+            messageSelector = inboundMessage -> {
+                Message message = convertedMessages.computeIfAbsent(inboundMessage, converted -> convertInbound(converted, true, context));
+                return dispatchingMessageSelector.accept(MessageBuilder.withPayload(message.getPayload())
+                        .copyHeaders(message.getHeaders())
+                        .build());
+            };
+        }
+
+        CitrusWebSocketHandler.InboundMessage inboundMessage = endpointConfiguration.getHandler().receive(messageSelector, timeout);
+        if (inboundMessage == null) {
+            String path = endpointConfiguration.getEndpointUri();
+            if (StringUtils.hasText(selector)) {
+                path = path + "(" + selector + ")";
+            }
+            throw new ActionTimeoutException(String.format("Action timed out while receiving message on '%s'", path));
+        }
+
+        Message receivedMessage = convertedMessages.computeIfAbsent(inboundMessage, converted -> convertInbound(converted, selective, context));
 
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
@@ -64,35 +96,16 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
-     * @param timeout
+     * Converts inbound web socket message and optionally adds the web socket session id as message header.
+     * @param inboundMessage
+     * @param sessionHeader
+     * @param context
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String path = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, path, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", path), e);
-            }
-
-            message = config.getHandler().getMessage();
-        }
-
-        if (message == null) {
-            throw new ActionTimeoutException(String.format("Action timed out while receiving message on '%s'", path));
+    private Message convertInbound(CitrusWebSocketHandler.InboundMessage inboundMessage, boolean sessionHeader, TestContext context) {
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(inboundMessage.getMessage(), endpointConfiguration, context);
+        if (sessionHeader) {
+            message.setHeader(WebSocketMessageHeaders.WEB_SOCKET_ID, inboundMessage.getSessionId());
         }
         return message;
     }
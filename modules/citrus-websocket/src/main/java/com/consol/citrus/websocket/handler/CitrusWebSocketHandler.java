@@ -16,20 +16,29 @@
 
 package com.consol.citrus.websocket.handler;
 
+import com.consol.citrus.container.ActionExecutionService;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 /**
  * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
  *
+ * Inbound messages are held in a concurrent queue together with the id of the session they were received on. Consumers
+ * are able to wait for messages with timeout and to select messages by predicate. Outbound messages are published to all
+ * open sessions in parallel.
+ *
  * @author Martin Maher
  * @since 2.3
  */
@@ -38,10 +47,28 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
     /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    private final Queue<InboundMessage> inboundMessages = new ConcurrentLinkedQueue<>();
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /** Current and maximum number of queued inbound messages */
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    /** Current and maximum number of queued inbound messages per session */
+    private final Map<String, AtomicInteger> sessionQueueDepth = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> sessionMaxQueueDepth = new ConcurrentHashMap<>();
+
+    /** Counts inbound messages so waiting consumers can detect arrivals that happened during queue scan */
+    private final AtomicLong arrivals = new AtomicLong();
+
+    /** Number of consumers waiting for inbound messages */
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+
+    /** Lock and condition used to signal message arrival to waiting consumers */
+    private final ReentrantLock arrivalLock = new ReentrantLock();
+    private final Condition messageArrived = arrivalLock.newCondition();
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -52,19 +79,19 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session, message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session, message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session, message);
     }
 
     @Override
@@ -78,35 +105,251 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Adds inbound message to internal cache and signals waiting consumers.
+     * @param session
+     * @param message
+     */
+    private void addMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        inboundMessages.add(new InboundMessage(session.getId(), message));
+        maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+
+        int depth = sessionQueueDepth.computeIfAbsent(session.getId(), id -> new AtomicInteger()).incrementAndGet();
+        sessionMaxQueueDepth.computeIfAbsent(session.getId(), id -> new AtomicInteger()).accumulateAndGet(depth, Math::max);
+        arrivals.incrementAndGet();
+
+        if (waitingConsumers.get() > 0) {
+            arrivalLock.lock();
+            try {
+                messageArrived.signalAll();
+            } finally {
+                arrivalLock.unlock();
+            }
+        }
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        InboundMessage inboundMessage = inboundMessages.poll();
+
+        if (inboundMessage != null) {
+            dequeued(inboundMessage);
+            return inboundMessage.getMessage();
+        }
+
+        return null;
+    }
+
+    /**
+     * Waits for next inbound message in internal cache. Returns null when no message has arrived within given timeout.
+     * @param timeout
+     * @return
+     */
+    public InboundMessage receive(long timeout) {
+        return receive(null, timeout);
+    }
+
+    /**
+     * Waits for next inbound message in internal cache that matches the given selector. Selector may be null
+     * in order to accept any message. Returns null when no matching message has arrived within given timeout.
+     * @param selector
+     * @param timeout
+     * @return
+     */
+    public InboundMessage receive(Predicate<InboundMessage> selector, long timeout) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+        long deadline = System.nanoTime() + nanosLeft;
+
+        waitingConsumers.incrementAndGet();
+        try {
+            while (true) {
+                long lastArrival = arrivals.get();
+
+                InboundMessage inboundMessage = select(selector);
+                if (inboundMessage != null || nanosLeft <= 0) {
+                    return inboundMessage;
+                }
+
+                arrivalLock.lock();
+                try {
+                    while (arrivals.get() == lastArrival && nanosLeft > 0) {
+                        nanosLeft = messageArrived.awaitNanos(nanosLeft);
+                    }
+                } finally {
+                    arrivalLock.unlock();
+                }
+
+                nanosLeft = deadline - System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for Web Socket message", e);
+        } finally {
+            waitingConsumers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Removes first inbound message matching the selector from internal cache. Concurrent consumers never
+     * receive the same message as only one of them succeeds in removing the message from the cache.
+     * @param selector
+     * @return
+     */
+    private InboundMessage select(Predicate<InboundMessage> selector) {
+        for (InboundMessage inboundMessage : inboundMessages) {
+            if ((selector == null || selector.test(inboundMessage)) && inboundMessages.remove(inboundMessage)) {
+                dequeued(inboundMessage);
+                return inboundMessage;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Updates queue depth after given message has been removed from internal cache.
+     * @param inboundMessage
+     */
+    private void dequeued(InboundMessage inboundMessage) {
+        queueDepth.decrementAndGet();
+        sessionQueueDepth.get(inboundMessage.getSessionId()).decrementAndGet();
     }
 
     /**
-     * Publish message to all sessions known to this handler.
+     * Publish message to all sessions known to this handler. Multiple sessions are sent to in parallel.
      * @param message
      * @return
      */
     public boolean sendMessage(WebSocketMessage<?> message) {
-        boolean sentSuccessfully = false;
         if (sessions.isEmpty()) {
             LOG.warn("No Web Socket session exists - message cannot be sent");
+            return false;
         }
 
+        List<WebSocketSession> openSessions = new ArrayList<>();
         for (WebSocketSession session : sessions.values()) {
             if (session != null && session.isOpen()) {
-                try {
-                    session.sendMessage(message);
-                    sentSuccessfully = true;
-                } catch (IOException e) {
-                    LOG.error(String.format("(%s) error sending message", session.getId()), e);
+                openSessions.add(session);
+            }
+        }
+
+        if (openSessions.size() == 1) {
+            return sendMessage(openSessions.get(0), message);
+        }
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (WebSocketSession session : openSessions) {
+            FutureTask<Boolean> task = new FutureTask<>(() -> sendMessage(session, message));
+            ActionExecutionService.getDefault().submit(task);
+            results.add(task);
+        }
+
+        boolean sentSuccessfully = false;
+        for (Future<Boolean> result : results) {
+            try {
+                sentSuccessfully |= result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while sending Web Socket message", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
                 }
+
+                throw new CitrusRuntimeException("Failed to send Web Socket message", e.getCause());
             }
         }
         return sentSuccessfully;
     }
+
+    /**
+     * Send message to single session.
+     * @param session
+     * @param message
+     * @return
+     */
+    private boolean sendMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        try {
+            session.sendMessage(message);
+            return true;
+        } catch (IOException e) {
+            LOG.error(String.format("(%s) error sending message", session.getId()), e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of inbound messages currently held in internal cache.
+     * @return
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Gets the maximum number of inbound messages held in internal cache at the same time.
+     * @return
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Gets the number of inbound messages currently held in internal cache for given session.
+     * @param sessionId
+     * @return
+     */
+    public int getQueueDepth(String sessionId) {
+        AtomicInteger depth = sessionQueueDepth.get(sessionId);
+        return depth != null ? depth.get() : 0;
+    }
+
+    /**
+     * Gets the maximum number of inbound messages held in internal cache at the same time for given session.
+     * @param sessionId
+     * @return
+     */
+    public int getMaxQueueDepth(String sessionId) {
+        AtomicInteger depth = sessionMaxQueueDepth.get(sessionId);
+        return depth != null ? depth.get() : 0;
+    }
+
+    /**
+     * Inbound message with id of the session it was received on.
+     */
+    public static class InboundMessage {
+        private final String sessionId;
+        private final WebSocketMessage<?> message;
+
+        /**
+         * Default constructor using session id and message.
+         * @param sessionId
+         * @param message
+         */
+        public InboundMessage(String sessionId, WebSocketMessage<?> message) {
+            this.sessionId = sessionId;
+            this.message = message;
+        }
+
+        /**
+         * Gets the session id.
+         * @return
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the message.
+         * @return
+         */
+        public WebSocketMessage<?> getMessage() {
+            return message;
+        }
+    }
 }
@@ -22,6 +22,8 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageConverter;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -143,6 +145,67 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testWebSocketEndpointSelectiveReceive() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+        handler.handleMessage(session, new TextMessage("<TestRequest><Message>Hello 1</Message></TestRequest>"));
+        handler.handleMessage(session2, new TextMessage("<TestRequest><Message>Hello 2</Message></TestRequest>"));
+
+        WebSocketConsumer consumer = (WebSocketConsumer) webSocketEndpoint.createConsumer();
+        Message requestMessage = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "<TestRequest><Message>Hello 2</Message></TestRequest>");
+        Assert.assertEquals(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_ID), "test-socket-2");
+
+        requestMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "<TestRequest><Message>Hello 1</Message></TestRequest>");
+        Assert.assertNull(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_ID));
+        Assert.assertEquals(handler.getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testWebSocketEndpointSelectiveReceiveConversion() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        WebSocketMessageConverter messageConverter = spy(new WebSocketMessageConverter());
+        endpointConfiguration.setMessageConverter(messageConverter);
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+        handler.handleMessage(session, new TextMessage("<TestRequest><Message>Hello 1</Message></TestRequest>"));
+        handler.handleMessage(session2, new TextMessage("<TestRequest><Message>Hello 2</Message></TestRequest>"));
+
+        WebSocketConsumer consumer = (WebSocketConsumer) webSocketEndpoint.createConsumer();
+        Message requestMessage = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "<TestRequest><Message>Hello 2</Message></TestRequest>");
+        verify(messageConverter, times(2)).convertInbound(any(org.springframework.web.socket.WebSocketMessage.class), eq(endpointConfiguration), eq(context));
+
+        requestMessage = consumer.receive(context, 1000L);
+        Assert.assertEquals(requestMessage.getPayload(), "<TestRequest><Message>Hello 1</Message></TestRequest>");
+        Assert.assertNull(requestMessage.getHeader(WebSocketMessageHeaders.WEB_SOCKET_ID));
+        verify(messageConverter, times(3)).convertInbound(any(org.springframework.web.socket.WebSocketMessage.class), eq(endpointConfiguration), eq(context));
+    }
+
     @Test
     public void testWebSocketEndpointTimeout() throws Exception {
         WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
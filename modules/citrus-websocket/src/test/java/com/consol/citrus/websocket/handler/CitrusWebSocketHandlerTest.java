@@ -0,0 +1,162 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.websocket.handler;
+
+import org.mockito.Mockito;
+import org.springframework.web.socket.*;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class CitrusWebSocketHandlerTest {
+
+    private WebSocketSession session = Mockito.mock(WebSocketSession.class);
+    private WebSocketSession session2 = Mockito.mock(WebSocketSession.class);
+
+    @Test
+    public void testReceiveWaitsForMessage() throws Exception {
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> {
+                handler.handleMessage(session, new TextMessage("Hello"));
+                return null;
+            }, 200L, TimeUnit.MILLISECONDS);
+
+            long start = System.currentTimeMillis();
+            CitrusWebSocketHandler.InboundMessage inboundMessage = handler.receive(5000L);
+            Assert.assertNotNull(inboundMessage);
+            Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+            Assert.assertEquals(inboundMessage.getSessionId(), "test-socket-1");
+            Assert.assertEquals(inboundMessage.getMessage().getPayload(), "Hello");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertNull(handler.receive(100L));
+        Assert.assertEquals(handler.getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testReceiveSelected() throws Exception {
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.handleMessage(session, new TextMessage("Hello 1"));
+        handler.handleMessage(session2, new TextMessage("Hello 2"));
+        handler.handleMessage(session, new TextMessage("Hello 3"));
+
+        Assert.assertEquals(handler.getQueueDepth(), 3);
+        Assert.assertEquals(handler.getMaxQueueDepth(), 3);
+        Assert.assertEquals(handler.getQueueDepth("test-socket-1"), 2);
+        Assert.assertEquals(handler.getQueueDepth("test-socket-2"), 1);
+
+        CitrusWebSocketHandler.InboundMessage inboundMessage = handler.receive(message -> message.getSessionId().equals("test-socket-2"), 1000L);
+        Assert.assertEquals(inboundMessage.getMessage().getPayload(), "Hello 2");
+        Assert.assertNull(handler.receive(message -> message.getSessionId().equals("test-socket-2"), 100L));
+
+        Assert.assertEquals(handler.getMessage().getPayload(), "Hello 1");
+        Assert.assertEquals(handler.receive(0L).getMessage().getPayload(), "Hello 3");
+        Assert.assertNull(handler.getMessage());
+        Assert.assertEquals(handler.getQueueDepth(), 0);
+        Assert.assertEquals(handler.getMaxQueueDepth(), 3);
+        Assert.assertEquals(handler.getQueueDepth("test-socket-1"), 0);
+        Assert.assertEquals(handler.getMaxQueueDepth("test-socket-1"), 2);
+        Assert.assertEquals(handler.getMaxQueueDepth("test-socket-2"), 1);
+        Assert.assertEquals(handler.getMaxQueueDepth("unknown"), 0);
+    }
+
+    @Test
+    public void testConcurrentConsumers() throws Exception {
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+
+        int messages = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> consumers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                consumers.add(executor.submit(() -> {
+                    int received = 0;
+                    while (handler.receive(500L) != null) {
+                        received++;
+                    }
+                    return received;
+                }));
+            }
+
+            for (int i = 0; i < 4; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < messages / 4; j++) {
+                        handler.handleMessage(session, new TextMessage("Hello"));
+                    }
+                    return null;
+                });
+            }
+
+            int received = 0;
+            for (Future<Integer> consumer : consumers) {
+                received += consumer.get();
+            }
+
+            Assert.assertEquals(received, messages);
+            Assert.assertEquals(handler.getQueueDepth(), 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSendMessageToAllSessions() throws Exception {
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+        when(session.isOpen()).thenReturn(true);
+        when(session2.isOpen()).thenReturn(true);
+        doThrow(new java.io.IOException("Closed")).when(session2).sendMessage(any(WebSocketMessage.class));
+
+        Assert.assertFalse(handler.sendMessage(new TextMessage("Hello")));
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        TextMessage message = new TextMessage("Hello");
+        Assert.assertTrue(handler.sendMessage(message));
+
+        verify(session).sendMessage(message);
+        verify(session2).sendMessage(message);
+    }
+}
@@ -72,6 +72,16 @@ public class WebServiceClientBuilder extends AbstractEndpointBuilder<WebServiceC
         return this;
     }
 
+    /**
+     * Sets the domPassthrough property.
+     * @param flag
+     * @return
+     */
+    public WebServiceClientBuilder domPassthrough(boolean flag) {
+        endpoint.getEndpointConfiguration().setDomPassthrough(flag);
+        return this;
+    }
+
     /**
      * Sets the web service template.
      * @param webServiceTemplate
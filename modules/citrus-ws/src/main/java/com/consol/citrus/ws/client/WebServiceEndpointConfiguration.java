@@ -75,6 +75,9 @@ public class WebServiceEndpointConfiguration extends AbstractPollableEndpointCon
     /** Should keep soap envelope when creating internal message */
     private boolean keepSoapEnvelope = false;
 
+    /** Should hand over parsed DOM of inbound SOAP body to message validators */
+    private boolean domPassthrough = false;
+
     /**
      * Creates default web service template with settings in this configuration.
      * @return
@@ -284,6 +287,23 @@ public class WebServiceEndpointConfiguration extends AbstractPollableEndpointCon
         this.keepSoapEnvelope = keepSoapEnvelope;
     }
 
+    /**
+     * Gets the DOM passthrough flag.
+     * @return
+     */
+    public boolean isDomPassthrough() {
+        return domPassthrough;
+    }
+
+    /**
+     * Sets the DOM passthrough flag. When enabled inbound SOAP body is converted to DOM once and the document is
+     * handed over to XML message validators instead of parsing the String payload again.
+     * @param domPassthrough
+     */
+    public void setDomPassthrough(boolean domPassthrough) {
+        this.domPassthrough = domPassthrough;
+    }
+
     /**
      * Gets the handleAttributeHeaders.
      *
@@ -102,6 +102,12 @@ public @interface WebServiceClientConfig {
      */
     long timeout() default 5000L;
 
+    /**
+     * DOM passthrough.
+     * @return
+     */
+    boolean domPassthrough() default false;
+
     /**
      * Test actor.
      * @return
@@ -97,6 +97,7 @@ public class WebServiceClientConfigParser extends AbstractAnnotationConfigParser
         builder.pollingInterval(annotation.pollingInterval());
 
         builder.timeout(annotation.timeout());
+        builder.domPassthrough(annotation.domPassthrough());
 
         if (StringUtils.hasText(annotation.actor())) {
             builder.actor(getReferenceResolver().resolve(annotation.actor(), TestActor.class));
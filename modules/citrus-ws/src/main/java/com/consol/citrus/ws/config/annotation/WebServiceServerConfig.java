@@ -171,4 +171,10 @@ public @interface WebServiceServerConfig {
      * @return
      */
     boolean keepSoapEnvelope() default false;
+
+    /**
+     * DOM passthrough.
+     * @return
+     */
+    boolean domPassthrough() default false;
 }
@@ -50,6 +50,7 @@ public class WebServiceServerConfigParser extends AbstractAnnotationConfigParser
         builder.handleMimeHeaders(annotation.handleMimeHeaders());
         builder.handleAttributeHeaders(annotation.handleAttributeHeaders());
         builder.keepSoapEnvelope(annotation.keepSoapEnvelope());
+        builder.domPassthrough(annotation.domPassthrough());
 
         if (StringUtils.hasText(annotation.soapHeaderNamespace())) {
             builder.soapHeaderNamespace(annotation.soapHeaderNamespace());
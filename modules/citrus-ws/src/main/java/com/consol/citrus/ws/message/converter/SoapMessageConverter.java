@@ -20,6 +20,7 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.*;
+import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.ws.client.WebServiceEndpointConfiguration;
 import com.consol.citrus.ws.message.*;
 import org.slf4j.Logger;
@@ -40,15 +41,20 @@ import org.springframework.ws.transport.http.HttpServletConnection;
 import org.springframework.xml.namespace.QNameUtils;
 import org.springframework.xml.transform.StringResult;
 import org.springframework.xml.transform.StringSource;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
+import org.w3c.dom.*;
+import org.w3c.dom.ls.LSInput;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.soap.MimeHeader;
 import javax.xml.soap.MimeHeaders;
 import javax.xml.transform.*;
+import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
@@ -67,6 +73,27 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(SoapMessageConverter.class);
 
+    /** Shared transformer factory */
+    private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+
+    /** Identity transformers bound to current thread as transformers are not thread safe */
+    private static final ThreadLocal<Transformer> TRANSFORMERS = ThreadLocal.withInitial(() -> {
+        synchronized (TRANSFORMER_FACTORY) {
+            try {
+                return TRANSFORMER_FACTORY.newTransformer();
+            } catch (TransformerConfigurationException e) {
+                throw new CitrusRuntimeException("Failed to create identity transformer", e);
+            }
+        }
+    });
+
+    /** Shared namespace aware document builder factory */
+    private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
+
+    static {
+        DOCUMENT_BUILDER_FACTORY.setNamespaceAware(true);
+    }
+
     /** Default payload source encoding */
     private String charset = Citrus.CITRUS_FILE_ENCODING;
     
@@ -89,11 +116,15 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
         }
 
         // Copy payload into soap-body:
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-
         try {
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.transform(new StringSource(soapMessage.getPayload(String.class)), soapRequest.getSoapBody().getPayloadResult());
+            Source payloadSource;
+            if (soapMessage.getPayload() instanceof Node) {
+                payloadSource = new DOMSource((Node) soapMessage.getPayload());
+            } else {
+                payloadSource = new StringSource(soapMessage.getPayload(String.class));
+            }
+
+            getTransformer().transform(payloadSource, soapRequest.getSoapBody().getPayloadResult());
         } catch (TransformerException e) {
             throw new CitrusRuntimeException("Failed to write SOAP body payload", e);
         }
@@ -125,7 +156,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
         for (String headerData : soapMessage.getHeaderData()) {
             try {
-                Transformer transformer = transformerFactory.newTransformer();
+                Transformer transformer = getTransformer();
                 transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
                 transformer.transform(new StringSource(headerData),
                         soapRequest.getSoapHeader().getResult());
@@ -162,23 +193,34 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     public SoapMessage convertInbound(WebServiceMessage webServiceMessage, MessageContext messageContext, WebServiceEndpointConfiguration endpointConfiguration) {
         try {
             String payload = "";
+            Document payloadDocument = null;
 
             if (endpointConfiguration.isKeepSoapEnvelope()) {
                 ByteArrayOutputStream bos = new ByteArrayOutputStream();
                 webServiceMessage.writeTo(bos);
                 payload = bos.toString(charset);
             } else if (webServiceMessage.getPayloadSource() != null) {
-                StringResult payloadResult = new StringResult();
+                Source payloadSource = webServiceMessage.getPayloadSource();
 
-                TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                Transformer transformer = transformerFactory.newTransformer();
-                transformer.transform(webServiceMessage.getPayloadSource(), payloadResult);
+                if (endpointConfiguration.isDomPassthrough()) {
+                    payloadDocument = createPayloadDocument(payloadSource);
+                    payloadSource = new DOMSource(payloadDocument);
+                }
+
+                StringResult payloadResult = new StringResult();
+                getTransformer().transform(payloadSource, payloadResult);
 
                 payload = payloadResult.toString();
             }
 
             SoapMessage message = new SoapMessage(payload);
 
+            if (payloadDocument != null) {
+                // seed parsed payload cache so validators do not parse the payload again
+                final Document parsedPayload = payloadDocument;
+                message.getParsedPayload(Document.class, m -> parsedPayload);
+            }
+
             handleInboundMessageProperties(messageContext, message);
 
             if (webServiceMessage instanceof org.springframework.ws.soap.SoapMessage) {
@@ -195,6 +237,117 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
         }
     }
 
+    /**
+     * Creates DOM document from inbound SOAP body payload source. Stream sources are parsed with basic parser instance.
+     * Other sources are copied to a new document that is normalized with the same parser settings, so the document equals the one
+     * message validators would parse from the String payload.
+     * @param payloadSource
+     * @return
+     * @throws TransformerException
+     */
+    private Document createPayloadDocument(Source payloadSource) throws TransformerException {
+        Document document;
+        if (payloadSource instanceof StreamSource) {
+            StreamSource streamSource = (StreamSource) payloadSource;
+            LSInput input = XMLUtils.createLSInput();
+            input.setByteStream(streamSource.getInputStream());
+            input.setCharacterStream(streamSource.getReader());
+            input.setSystemId(streamSource.getSystemId());
+
+            document = XMLUtils.createLSParser().parse(input);
+        } else {
+            if (payloadSource instanceof DOMSource && ((DOMSource) payloadSource).getNode() != null) {
+                Node payloadNode = ((DOMSource) payloadSource).getNode();
+                if (payloadNode instanceof Document) {
+                    payloadNode = ((Document) payloadNode).getDocumentElement();
+                }
+
+                document = createDocument();
+                document.appendChild(document.importNode(payloadNode, true));
+                renameNamespaceUnaware(document, document.getDocumentElement());
+            } else {
+                DOMResult domResult = new DOMResult();
+                getTransformer().transform(payloadSource, domResult);
+                document = (Document) domResult.getNode();
+            }
+
+            XMLUtils.normalizeDocument(document);
+        }
+
+        document.setXmlStandalone(true);
+        return document;
+    }
+
+    /**
+     * Renames elements and attributes created with namespace unaware DOM methods, as done by some SAAJ implementations,
+     * to namespace aware nodes the same way a namespace aware parser would create them.
+     * @param document
+     * @param element
+     */
+    private void renameNamespaceUnaware(Document document, Element element) {
+        if (element.getLocalName() == null) {
+            String name = element.getNodeName();
+            String prefix = name.contains(":") ? name.substring(0, name.indexOf(':')) : null;
+            Element renamed = document.createElementNS(element.lookupNamespaceURI(prefix), name);
+            while (element.getAttributes().getLength() > 0) {
+                renamed.setAttributeNode(element.removeAttributeNode((Attr) element.getAttributes().item(0)));
+            }
+
+            while (element.getFirstChild() != null) {
+                renamed.appendChild(element.getFirstChild());
+            }
+
+            element.getParentNode().replaceChild(renamed, element);
+            element = renamed;
+        }
+
+        NamedNodeMap attributes = element.getAttributes();
+        List<Attr> namespaceUnaware = new ArrayList<>();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            if (attributes.item(i).getLocalName() == null) {
+                namespaceUnaware.add((Attr) attributes.item(i));
+            }
+        }
+
+        for (Attr attribute : namespaceUnaware) {
+            String name = attribute.getName();
+            String namespaceUri = null;
+            if (name.equals(XMLConstants.XMLNS_ATTRIBUTE) || name.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ":")) {
+                namespaceUri = XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+            } else if (name.contains(":")) {
+                namespaceUri = element.lookupNamespaceURI(name.substring(0, name.indexOf(':')));
+            }
+
+            element.removeAttributeNode(attribute);
+            element.setAttributeNS(namespaceUri, name, attribute.getValue());
+        }
+
+        List<Element> childElements = new ArrayList<>();
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                childElements.add((Element) child);
+            }
+        }
+
+        for (Element child : childElements) {
+            renameNamespaceUnaware(document, child);
+        }
+    }
+
+    /**
+     * Creates new empty namespace aware DOM document.
+     * @return
+     */
+    private Document createDocument() {
+        synchronized (DOCUMENT_BUILDER_FACTORY) {
+            try {
+                return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder().newDocument();
+            } catch (ParserConfigurationException e) {
+                throw new CitrusRuntimeException("Failed to create DOM document", e);
+            }
+        }
+    }
+
     /**
      * Method handles SOAP specific message information such as SOAP action headers and SOAP attachments.
      *
@@ -310,9 +463,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
                 if (soapHeader.getSource() != null) {
                     StringResult headerData = new StringResult();
-                    TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                    Transformer transformer = transformerFactory.newTransformer();
-                    transformer.transform(soapHeader.getSource(), headerData);
+                    getTransformer().transform(soapHeader.getSource(), headerData);
 
                     message.addHeaderData(headerData.toString());
                 }
@@ -335,6 +486,17 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
         }
     }
 
+    /**
+     * Gets identity transformer for current thread. Transformer is reset so output properties of previous
+     * transformations do not apply.
+     * @return
+     */
+    private Transformer getTransformer() {
+        Transformer transformer = TRANSFORMERS.get();
+        transformer.reset();
+        return transformer;
+    }
+
     /**
      * Adds a HTTP message header to the SOAP message.
      *
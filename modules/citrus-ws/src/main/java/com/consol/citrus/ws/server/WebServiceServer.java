@@ -102,6 +102,9 @@ public class WebServiceServer extends AbstractServer implements ApplicationConte
     /** Should keep soap envelope when creating internal message */
     private boolean keepSoapEnvelope = false;
 
+    /** Should hand over parsed DOM of inbound SOAP body to message validators */
+    private boolean domPassthrough = false;
+
     /** Message converter implementation */
     private WebServiceMessageConverter messageConverter = new SoapMessageConverter();
 
@@ -585,6 +588,22 @@ public class WebServiceServer extends AbstractServer implements ApplicationConte
         this.keepSoapEnvelope = keepSoapEnvelope;
     }
 
+    /**
+     * Gets the DOM passthrough flag.
+     * @return
+     */
+    public boolean isDomPassthrough() {
+        return domPassthrough;
+    }
+
+    /**
+     * Sets the DOM passthrough flag.
+     * @param domPassthrough
+     */
+    public void setDomPassthrough(boolean domPassthrough) {
+        this.domPassthrough = domPassthrough;
+    }
+
     /**
      * Gets the default soap header namespace.
      * @return
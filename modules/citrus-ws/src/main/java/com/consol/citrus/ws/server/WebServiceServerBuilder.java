@@ -241,6 +241,16 @@ public class WebServiceServerBuilder extends AbstractEndpointBuilder<WebServiceS
         return this;
     }
 
+    /**
+     * Sets the domPassthrough property.
+     * @param flag
+     * @return
+     */
+    public WebServiceServerBuilder domPassthrough(boolean flag) {
+        endpoint.setDomPassthrough(flag);
+        return this;
+    }
+
     /**
      * Sets the handleMimeHeaders property.
      * @param flag
@@ -92,6 +92,7 @@ public class CitrusMessageDispatcherServlet extends MessageDispatcherServlet {
             endpointConfiguration.setHandleMimeHeaders(webServiceServer.isHandleMimeHeaders());
             endpointConfiguration.setHandleAttributeHeaders(webServiceServer.isHandleAttributeHeaders());
             endpointConfiguration.setKeepSoapEnvelope(webServiceServer.isKeepSoapEnvelope());
+            endpointConfiguration.setDomPassthrough(webServiceServer.isDomPassthrough());
             endpointConfiguration.setMessageConverter(webServiceServer.getMessageConverter());
             messageEndpoint.setEndpointConfiguration(endpointConfiguration);
 
@@ -72,7 +72,8 @@ public class WebServiceClientConfigParserTest extends AbstractTestNGUnitTest {
     @WebServiceClientConfig(requestUrl = "http://localhost:8080/test",
             faultStrategy=ErrorHandlingStrategy.PROPAGATE,
             interceptors={ "clientInterceptor1", "clientInterceptor2" },
-            pollingInterval=250)
+            pollingInterval=250,
+            domPassthrough=true)
     private WebServiceClient client5;
 
     @CitrusEndpoint
@@ -135,6 +136,7 @@ public class WebServiceClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(client1.getEndpointConfiguration().getMessageConverter() instanceof SoapMessageConverter);
         Assert.assertEquals(client1.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.THROWS_EXCEPTION);
         Assert.assertEquals(client1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(client1.getEndpointConfiguration().isDomPassthrough());
         Assert.assertNotNull(client1.getEndpointConfiguration().getWebServiceTemplate());
 
         // 2nd message sender
@@ -175,6 +177,7 @@ public class WebServiceClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(client5.getEndpointConfiguration().getInterceptors().get(0), clientInterceptor1);
         Assert.assertEquals(client5.getEndpointConfiguration().getInterceptors().get(1), clientInterceptor2);
         Assert.assertEquals(client5.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(client5.getEndpointConfiguration().isDomPassthrough());
         Assert.assertNotNull(client5.getEndpointConfiguration().getWebServiceTemplate());
         Assert.assertEquals(client5.getEndpointConfiguration().getWebServiceTemplate().getInterceptors().length, 2L);
 
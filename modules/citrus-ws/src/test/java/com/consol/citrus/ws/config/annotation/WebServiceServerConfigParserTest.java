@@ -56,6 +56,7 @@ public class WebServiceServerConfigParserTest extends AbstractTestNGUnitTest {
             handleMimeHeaders=true,
             handleAttributeHeaders=true,
             keepSoapEnvelope=true,
+            domPassthrough=true,
             messageConverter="messageConverter",
             messageFactory="soap12MessageFactory",
             soapHeaderNamespace="http://citrusframework.org",
@@ -132,6 +133,7 @@ public class WebServiceServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(soapServer1.isHandleMimeHeaders());
         Assert.assertFalse(soapServer1.isHandleAttributeHeaders());
         Assert.assertFalse(soapServer1.isKeepSoapEnvelope());
+        Assert.assertFalse(soapServer1.isDomPassthrough());
         Assert.assertNull(soapServer1.getSoapHeaderNamespace());
         Assert.assertEquals(soapServer1.getSoapHeaderPrefix(), "");
         Assert.assertEquals(soapServer1.getMessageFactoryName(), MessageDispatcherServlet.DEFAULT_MESSAGE_FACTORY_BEAN_NAME);
@@ -153,6 +155,7 @@ public class WebServiceServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(soapServer2.isHandleMimeHeaders());
         Assert.assertTrue(soapServer2.isHandleAttributeHeaders());
         Assert.assertTrue(soapServer2.isKeepSoapEnvelope());
+        Assert.assertTrue(soapServer2.isDomPassthrough());
         Assert.assertEquals(soapServer2.getSoapHeaderNamespace(), "http://citrusframework.org");
         Assert.assertEquals(soapServer2.getSoapHeaderPrefix(), "CITRUS");
         Assert.assertEquals(soapServer2.getMessageConverter(), messageConverter);
@@ -50,6 +50,7 @@ public class WebServiceClientParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertTrue(client.getEndpointConfiguration().getMessageConverter() instanceof SoapMessageConverter);
         Assert.assertEquals(client.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.THROWS_EXCEPTION);
         Assert.assertEquals(client.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(client.getEndpointConfiguration().isDomPassthrough());
         Assert.assertNotNull(client.getEndpointConfiguration().getWebServiceTemplate());
 
         // 2nd message sender
@@ -94,6 +95,7 @@ public class WebServiceClientParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(client.getEndpointConfiguration().getInterceptors().get(0), beanDefinitionContext.getBean("interceptor1"));
         Assert.assertEquals(client.getEndpointConfiguration().getInterceptors().get(1), beanDefinitionContext.getBean("interceptor2"));
         Assert.assertEquals(client.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(client.getEndpointConfiguration().isDomPassthrough());
         Assert.assertNotNull(client.getEndpointConfiguration().getWebServiceTemplate());
         Assert.assertEquals(client.getEndpointConfiguration().getWebServiceTemplate().getInterceptors().length, 2L);
 
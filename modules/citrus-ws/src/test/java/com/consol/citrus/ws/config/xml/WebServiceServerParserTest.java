@@ -51,6 +51,7 @@ public class WebServiceServerParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertFalse(server.isHandleMimeHeaders());
         Assert.assertFalse(server.isHandleAttributeHeaders());
         Assert.assertFalse(server.isKeepSoapEnvelope());
+        Assert.assertFalse(server.isDomPassthrough());
         Assert.assertNull(server.getSoapHeaderNamespace());
         Assert.assertEquals(server.getSoapHeaderPrefix(), "");
         Assert.assertEquals(server.getMessageFactoryName(), MessageDispatcherServlet.DEFAULT_MESSAGE_FACTORY_BEAN_NAME);
@@ -73,6 +74,7 @@ public class WebServiceServerParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertTrue(server.isHandleMimeHeaders());
         Assert.assertTrue(server.isHandleAttributeHeaders());
         Assert.assertTrue(server.isKeepSoapEnvelope());
+        Assert.assertTrue(server.isDomPassthrough());
         Assert.assertEquals(server.getSoapHeaderNamespace(), "http://citrusframework.org");
         Assert.assertEquals(server.getSoapHeaderPrefix(), "CITRUS");
         Assert.assertEquals(server.getMessageConverter(), beanDefinitionContext.getBean("messageConverter"));
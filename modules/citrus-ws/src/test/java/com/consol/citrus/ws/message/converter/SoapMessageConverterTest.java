@@ -21,6 +21,8 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.validation.xml.DomXmlMessageValidator;
+import com.consol.citrus.validation.xml.XmlMessageValidationContext;
 import com.consol.citrus.ws.client.WebServiceEndpointConfiguration;
 import com.consol.citrus.ws.message.*;
 import com.consol.citrus.ws.message.SoapMessage;
@@ -36,6 +38,8 @@ import org.springframework.xml.transform.StringResult;
 import org.springframework.xml.transform.StringSource;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
 
 import javax.xml.namespace.QName;
 import javax.xml.soap.*;
@@ -347,6 +351,77 @@ public class SoapMessageConverterTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testInboundSoapBodyDomPassthrough() throws TransformerException, IOException {
+        SoapMessageConverter soapMessageConverter = new SoapMessageConverter();
+
+        WebServiceEndpointConfiguration endpointConfiguration = new WebServiceEndpointConfiguration();
+        endpointConfiguration.setDomPassthrough(true);
+
+        StringSource soapBodySource = new StringSource(payload);
+
+        Set<SoapHeaderElement> soapHeaders = new HashSet<SoapHeaderElement>();
+        Set<Attachment> soapAttachments = new HashSet<Attachment>();
+
+        reset(soapResponse, soapEnvelope, soapBody, soapHeader);
+
+        when(soapResponse.getEnvelope()).thenReturn(soapEnvelope);
+        when(soapEnvelope.getSource()).thenReturn(new StringSource(getSoapRequestPayload()));
+        when(soapResponse.getPayloadSource()).thenReturn(soapBodySource);
+        when(soapResponse.getSoapHeader()).thenReturn(soapHeader);
+        when(soapEnvelope.getHeader()).thenReturn(soapHeader);
+        when(soapHeader.examineAllHeaderElements()).thenReturn(soapHeaders.iterator());
+        when(soapHeader.getSource()).thenReturn(null);
+
+        when(soapResponse.getAttachments()).thenReturn(soapAttachments.iterator());
+
+        when(soapResponse.getSoapAction()).thenReturn("");
+
+        Message responseMessage = soapMessageConverter.convertInbound(soapResponse, endpointConfiguration, context);
+        Assert.assertEquals(responseMessage.getPayload(), XML_PROCESSING_INSTRUCTION + payload);
+
+        Document document = responseMessage.getParsedPayload(Document.class, message -> {
+            throw new AssertionError("Unexpected payload parsing");
+        });
+        Assert.assertEquals(document.getDocumentElement().getLocalName(), "testMessage");
+        Assert.assertEquals(document.getDocumentElement().getTextContent(), "Hello");
+        Assert.assertSame(XMLUtils.parseMessagePayload(responseMessage), document);
+    }
+
+    @Test
+    public void testInboundSoapBodyDomPassthroughValidation() throws IOException {
+        String bodyPayload = "<ns0:testMessage xmlns:ns0=\"http://citrusframework.org/test\" id=\"1\">" +
+                    "<ns0:text><![CDATA[<Hello>]]></ns0:text>" +
+                    "<!-- comment -->" +
+                    "<ns0:value>foo</ns0:value>" +
+                "</ns0:testMessage>";
+
+        Message controlMessage = new DefaultMessage(bodyPayload);
+
+        SaajSoapMessageFactory soapMessageFactory = new SaajSoapMessageFactory();
+        soapMessageFactory.afterPropertiesSet();
+
+        List<String> payloads = new ArrayList<>();
+        for (boolean domPassthrough : new boolean[] { false, true }) {
+            WebServiceMessage soapMessage = soapMessageFactory.createWebServiceMessage(
+                    new ByteArrayInputStream((XML_PROCESSING_INSTRUCTION + getSoapRequestPayload(bodyPayload)).getBytes()));
+
+            WebServiceEndpointConfiguration endpointConfiguration = new WebServiceEndpointConfiguration();
+            endpointConfiguration.setDomPassthrough(domPassthrough);
+
+            Message responseMessage = new SoapMessageConverter().convertInbound(soapMessage, endpointConfiguration, context);
+            payloads.add(responseMessage.getPayload(String.class));
+
+            Document document = XMLUtils.parseMessagePayload(responseMessage);
+            Assert.assertTrue(document.getDocumentElement().isEqualNode(XMLUtils.parseMessagePayload(responseMessage.getPayload(String.class)).getDocumentElement()));
+            Assert.assertEquals(document.getDocumentElement().getFirstChild().getFirstChild().getNodeType(), Node.CDATA_SECTION_NODE);
+
+            new DomXmlMessageValidator().validateMessage(responseMessage, controlMessage, context, new XmlMessageValidationContext());
+        }
+
+        Assert.assertEquals(payloads.get(1), payloads.get(0));
+    }
+
     @Test
     public void testInboundSoapBodyOnlyRootElement() throws TransformerException, IOException {
         SoapMessageConverter soapMessageConverter = new SoapMessageConverter();
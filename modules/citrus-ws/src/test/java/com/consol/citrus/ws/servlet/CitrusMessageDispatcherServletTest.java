@@ -85,6 +85,7 @@ public class CitrusMessageDispatcherServletTest extends AbstractTestNGUnitTest {
         when(webServiceServer.isHandleMimeHeaders()).thenReturn(false);
         when(webServiceServer.isHandleAttributeHeaders()).thenReturn(false);
         when(webServiceServer.isKeepSoapEnvelope()).thenReturn(false);
+        when(webServiceServer.isDomPassthrough()).thenReturn(false);
         when(webServiceServer.getSoapHeaderNamespace()).thenReturn(null);
         when(webServiceServer.getSoapHeaderPrefix()).thenReturn("");
 
@@ -99,6 +100,7 @@ public class CitrusMessageDispatcherServletTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(webServiceEndpoint.getEndpointConfiguration().isHandleMimeHeaders());
         Assert.assertFalse(webServiceEndpoint.getEndpointConfiguration().isHandleAttributeHeaders());
         Assert.assertFalse(webServiceEndpoint.getEndpointConfiguration().isKeepSoapEnvelope());
+        Assert.assertFalse(webServiceEndpoint.getEndpointConfiguration().isDomPassthrough());
         Assert.assertNull(webServiceEndpoint.getDefaultNamespaceUri());
         Assert.assertEquals(webServiceEndpoint.getDefaultPrefix(), "");
 
@@ -114,6 +116,7 @@ public class CitrusMessageDispatcherServletTest extends AbstractTestNGUnitTest {
         when(webServiceServer.isHandleMimeHeaders()).thenReturn(true);
         when(webServiceServer.isHandleAttributeHeaders()).thenReturn(true);
         when(webServiceServer.isKeepSoapEnvelope()).thenReturn(true);
+        when(webServiceServer.isDomPassthrough()).thenReturn(true);
         when(webServiceServer.getSoapHeaderNamespace()).thenReturn("http://citrusframework.org");
         when(webServiceServer.getSoapHeaderPrefix()).thenReturn("CITRUS");
 
@@ -125,6 +128,7 @@ public class CitrusMessageDispatcherServletTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(webServiceEndpoint.getEndpointConfiguration().isHandleMimeHeaders());
         Assert.assertTrue(webServiceEndpoint.getEndpointConfiguration().isHandleAttributeHeaders());
         Assert.assertTrue(webServiceEndpoint.getEndpointConfiguration().isKeepSoapEnvelope());
+        Assert.assertTrue(webServiceEndpoint.getEndpointConfiguration().isDomPassthrough());
         Assert.assertEquals(webServiceEndpoint.getDefaultNamespaceUri(), "http://citrusframework.org");
         Assert.assertEquals(webServiceEndpoint.getDefaultPrefix(), "CITRUS");
 